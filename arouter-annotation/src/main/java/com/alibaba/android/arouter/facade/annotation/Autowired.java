@@ -25,4 +25,8 @@ public @interface Autowired {
 
     // Description of the field
     String desc() default "";
+
+    // If lazy, object param will be parsed on first access.
+    // Only for object param, the field must be LazyObject<T>.
+    boolean lazy() default false;
 }
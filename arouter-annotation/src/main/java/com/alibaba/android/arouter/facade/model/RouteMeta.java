@@ -46,6 +46,10 @@ public class RouteMeta {
     // 以@Autowired的name属性的值为key，Autowired注解为value
     private Map<String, Autowired> injectConfig;  // Cache inject config.
 
+    // paramsType的key和value的数组形式，解析uri参数时使用，避免遍历map
+    private String[] paramsName;    // Cache keys of paramsType.
+    private int[] paramsTypeCode;   // Cache values of paramsType, -1 if null.
+
     public RouteMeta() {
     }
 
@@ -133,9 +137,53 @@ public class RouteMeta {
 
     public RouteMeta setParamsType(Map<String, Integer> paramsType) {
         this.paramsType = paramsType;
+        this.paramsName = null;
+        this.paramsTypeCode = null;
         return this;
     }
 
+    /**
+     * Keys of paramsType, in the same order of {@link #getParamsTypeCode()}.
+     *
+     * @return names of params, empty if there is no param.
+     */
+    public String[] getParamsName() {
+        if (null == paramsName) {
+            indexParams();
+        }
+        return paramsName;
+    }
+
+    /**
+     * Values of paramsType, in the same order of {@link #getParamsName()}.
+     *
+     * @return type code of params, -1 if its type is null.
+     */
+    public int[] getParamsTypeCode() {
+        if (null == paramsTypeCode) {
+            indexParams();
+        }
+        return paramsTypeCode;
+    }
+
+    private void indexParams() {
+        int size = null == paramsType ? 0 : paramsType.size();
+        String[] names = new String[size];
+        int[] codes = new int[size];
+
+        if (size > 0) {
+            int index = 0;
+            for (Map.Entry<String, Integer> params : paramsType.entrySet()) {
+                names[index] = params.getKey();
+                codes[index] = null == params.getValue() ? -1 : params.getValue();
+                index++;
+            }
+        }
+
+        this.paramsTypeCode = codes;
+        this.paramsName = names;
+    }
+
     public Map<String, Autowired> getInjectConfig() {
         return injectConfig;
     }
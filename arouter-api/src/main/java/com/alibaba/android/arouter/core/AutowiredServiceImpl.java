@@ -1,14 +1,18 @@
 package com.alibaba.android.arouter.core;
 
 import android.content.Context;
-import android.util.LruCache;
 
 import com.alibaba.android.arouter.facade.annotation.Route;
 import com.alibaba.android.arouter.facade.service.AutowiredService;
+import com.alibaba.android.arouter.facade.template.IChainedSyringe;
 import com.alibaba.android.arouter.facade.template.ISyringe;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.android.arouter.utils.Consts.SUFFIX_AUTOWIRED;
 
@@ -23,21 +27,28 @@ import static com.alibaba.android.arouter.utils.Consts.SUFFIX_AUTOWIRED;
 public class AutowiredServiceImpl implements AutowiredService {
 
     /**
-     * 以目标类的类名为key，辅助类{clazz.simpleName}$$ARouter$$Autowired为value进行lru缓存，避免频繁创建对象
+     * 以目标类为key，辅助类{clazz.simpleName}$$ARouter$$Autowired为value进行缓存，避免频繁创建对象
+     * Generated syringe never changes, so it needn't evict.
      */
-    private LruCache<String, ISyringe> classCache;
+    private Map<Class<?>, ISyringe> classCache;
 
     /**
      * 黑名单
      * 如果目标类对应的辅助类{clazz.simpleName}$$ARouter$$Autowired通过反射实例化失败时，
-     * 会将目标类的类名放入黑名单中，下次就不会再实例化对应的辅助类
+     * 会将目标类放入黑名单中，下次就不会再实例化对应的辅助类
      */
-    private List<String> blackList;
+    private Set<Class<?>> blackList;
+
+    /**
+     * 以具体类为key，它自身和父类对应的辅助类数组为value(注入计划)，首次注入时计算，之后只需遍历数组
+     */
+    private Map<Class<?>, ISyringe[]> planCache;
 
     @Override
     public void init(Context context) {
-        classCache = new LruCache<>(50);
-        blackList = new ArrayList<>();
+        classCache = new ConcurrentHashMap<>();
+        blackList = Collections.newSetFromMap(new ConcurrentHashMap<Class<?>, Boolean>());
+        planCache = new ConcurrentHashMap<>();
     }
 
     /**
@@ -46,33 +57,48 @@ public class AutowiredServiceImpl implements AutowiredService {
      */
     @Override
     public void autowire(Object instance) {
-        doInject(instance, null);
+        Class<?> clazz = instance.getClass();
+
+        ISyringe[] plan = planCache.get(clazz);
+        if (null == plan) {
+            plan = resolvePlan(clazz);
+            planCache.put(clazz, plan);
+        }
+
+        // 先注入当前类，再注入父类
+        for (ISyringe syringe : plan) {
+            // 关键：将当前类传给辅助类{clazz.simpleName}$$ARouter$$Autowired，利用辅助类为当前类instance注入变量值
+            syringe.inject(instance);
+        }
     }
 
     /**
-     * Recursive injection
-     * 当前类instance注入变量值完成后，递归父类继续注入父类中的变量值
+     * Find out the syringes of class and its super classes, until the class of framework,
+     * or the syringe which has chained its parent.
      *
-     * @param instance who call me.     当前类
-     * @param parent   parent of me.    父类
+     * @param clazz concrete class
+     * @return syringes should be used, sub class first.
      */
-    private void doInject(Object instance, Class<?> parent) {
-        Class<?> clazz = null == parent ? instance.getClass() : parent;
+    private ISyringe[] resolvePlan(Class<?> clazz) {
+        List<ISyringe> plan = new ArrayList<>();
 
-        // 获取目标类clazz对应的辅助类{clazz.simpleName}$$ARouter$$Autowired
-        ISyringe syringe = getSyringe(clazz);
-        if (null != syringe) {
-            // 关键：将当前类传给辅助类{clazz.simpleName}$$ARouter$$Autowired，利用辅助类为当前类instance注入变量值
-            syringe.inject(instance);
-        }
+        Class<?> target = clazz;
+        do {
+            // 获取目标类target对应的辅助类{clazz.simpleName}$$ARouter$$Autowired
+            ISyringe syringe = getSyringe(target);
+            if (null != syringe) {
+                plan.add(syringe);
 
-        // 获取目标类的父类
-        Class<?> superClazz = clazz.getSuperclass();
-        // has parent and its not the class of framework.
-        if (null != superClazz && !superClazz.getName().startsWith("android")) {
-            // 如果父类不是framework中的类，则递归注入变量值
-            doInject(instance, superClazz);
-        }
+                if (syringe instanceof IChainedSyringe) {
+                    // The syringe will inject super classes by itself.
+                    break;
+                }
+            }
+
+            target = target.getSuperclass();
+        } while (null != target && !target.getName().startsWith("android"));   // has parent and its not the class of framework.
+
+        return plan.toArray(new ISyringe[plan.size()]);
     }
 
     /**
@@ -81,27 +107,21 @@ public class AutowiredServiceImpl implements AutowiredService {
      * @return      如果classCache中存在目标类clazz对应的辅助类 {clazz.simpleName}$$ARouter$$Autowired，则返回；否则返回null
      */
     private ISyringe getSyringe(Class<?> clazz) {
-        String className = clazz.getName();
+        ISyringe syringeHelper = classCache.get(clazz);
+        if (null != syringeHelper || blackList.contains(clazz)) {
+            return syringeHelper;
+        }
 
         try {
-            if (!blackList.contains(className)) {
-                // 如果目标类不在黑名单中，则根据类名从classCache中获取对应的辅助类{clazz.simpleName}$$ARouter$$Autowired
-                ISyringe syringeHelper = classCache.get(className);
-                if (null == syringeHelper) {  // No cache.
-                    // 如果classCache不存在对应的辅助类，则反射实例化一个
-                    syringeHelper = (ISyringe) Class.forName(clazz.getName() + SUFFIX_AUTOWIRED).getConstructor().newInstance();
-                }
-                // 再次将辅助类缓存到classCache中
-                classCache.put(className, syringeHelper);
-                // 返回辅助类
-                return syringeHelper;
-            }
+            // 如果classCache不存在对应的辅助类，则反射实例化一个
+            syringeHelper = (ISyringe) Class.forName(clazz.getName() + SUFFIX_AUTOWIRED).getConstructor().newInstance();
+            // 将辅助类缓存到classCache中
+            classCache.put(clazz, syringeHelper);
         } catch (Exception e) {
-            // 辅助类实例化失败，将类名加入黑名单，下次不再实例化
-            blackList.add(className);    // This instance need not autowired.
+            // 辅助类实例化失败，将目标类加入黑名单，下次不再实例化
+            blackList.add(clazz);    // This instance need not autowired.
         }
 
-        // 如果辅助类实例化失败 或 目标类在黑名单中，则返回null
-        return null;
+        return syringeHelper;
     }
 }
@@ -0,0 +1,231 @@
+package com.alibaba.android.arouter.core;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+import com.alibaba.android.arouter.platform.Platforms;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process store of large object, only the token will be put into extras,
+ * so the object won't cross the binder or be copied with the bundle.
+ * The token is a random id in its own type, the string params of uri can't claim the object.
+ * 大对象只保存在进程内，extras中只保存token，避免TransactionTooLargeException
+ *
+ * The object is kept until all of the activities which hold it are destroyed,
+ * or timeout if nobody holds it (navigation was interrupted, the target is in other process...).
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 16:20
+ */
+public final class HandoffStore {
+    private static final long TIMEOUT = 60 * 1000;  // Object which nobody holds will be evicted after it, TimeUnit.Millisecond
+
+    private static final Map<Token, Entry> entries = new HashMap<>();
+    private static final Map<Activity, List<Token>> holders = new HashMap<>();
+    private static boolean registered;
+
+    private HandoffStore() {
+    }
+
+    /**
+     * Watch the activities, object held by them will be released when they are destroyed.
+     */
+    public static synchronized void init(Application application) {
+        if (!registered) {
+            application.registerActivityLifecycleCallbacks(new HolderCallbacks());
+            registered = true;
+        }
+    }
+
+    /**
+     * Keep the object, and get the token of it.
+     *
+     * @param value large object
+     * @return token, should be put into extras.
+     */
+    public static synchronized Token put(Object value) {
+        Token token = new Token(UUID.randomUUID().toString());
+        Entry entry = new Entry(value);
+        entries.put(token, entry);
+        expireLater(token, entry);
+        return token;
+    }
+
+    /**
+     * Whether the payload is token of large object, which is put by Postcard.withLargeObject.
+     */
+    public static boolean isToken(Object payload) {
+        return payload instanceof Token;
+    }
+
+    /**
+     * Get the object by token, the object will be held by the activity of owner.
+     *
+     * @param token token in extras
+     * @param owner activity or fragment which need the object
+     * @return object, null if it has been evicted or put by other process.
+     */
+    public static synchronized Object acquire(Token token, Object owner) {
+        Entry entry = entries.get(token);
+        if (null != entry) {
+            Activity activity = activityOf(owner);
+            if (null != activity && !activity.isFinishing()) {
+                List<Token> tokens = holders.get(activity);
+                if (null == tokens) {
+                    tokens = new ArrayList<>();
+                    holders.put(activity, tokens);
+                }
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                    entry.refCount++;
+                }
+            } else if (entry.refCount <= 0) {
+                // Nobody can hold it, keep it for a while.
+                expireLater(token, entry);
+            }
+        }
+
+        return null == entry ? null : entry.value;
+    }
+
+    /**
+     * Release the objects held by activity.
+     *
+     * @param activity        destroyed activity
+     * @param changingConfigs it will be recreated, so keep the object for the new one.
+     */
+    private static synchronized void release(Activity activity, boolean changingConfigs) {
+        List<Token> tokens = holders.remove(activity);
+        if (null == tokens) {
+            return;
+        }
+
+        for (Token token : tokens) {
+            Entry entry = entries.get(token);
+            if (null != entry && --entry.refCount <= 0) {
+                if (changingConfigs) {
+                    expireLater(token, entry);
+                } else {
+                    entries.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evict the object after timeout, unless it's held or kept again by then.
+     */
+    private static void expireLater(final Token token, Entry entry) {
+        entry.deadline = uptimeMillis() + TIMEOUT;
+        Platforms.getMainThread().postDelayed(new Runnable() {
+            @Override
+            public void run() {
+                expire(token);
+            }
+        }, TIMEOUT);
+    }
+
+    private static synchronized void expire(Token token) {
+        Entry entry = entries.get(token);
+        if (null != entry && entry.refCount <= 0 && entry.deadline <= uptimeMillis()) {
+            entries.remove(token);
+        }
+    }
+
+    /**
+     * Monotonic clock, same as SystemClock.uptimeMillis on android, and works on JVM.
+     */
+    private static long uptimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private static Activity activityOf(Object owner) {
+        if (owner instanceof Activity) {
+            return (Activity) owner;
+        } else if (owner instanceof android.app.Fragment) {
+            return ((android.app.Fragment) owner).getActivity();
+        } else if (owner instanceof android.support.v4.app.Fragment) {
+            return ((android.support.v4.app.Fragment) owner).getActivity();
+        }
+
+        return null;
+    }
+
+    /**
+     * Token of large object in extras, only the id crosses the binder.
+     */
+    public static final class Token implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String id;
+
+        private Token(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Token && id.equals(((Token) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Token{" + id + "}";
+        }
+    }
+
+    private static class Entry {
+        private final Object value;
+        private int refCount;       // Count of activities which hold it.
+        private long deadline;      // Used when nobody holds it.
+
+        Entry(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static class HolderCallbacks implements Application.ActivityLifecycleCallbacks {
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+            release(activity, activity.isChangingConfigurations());
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+    }
+}
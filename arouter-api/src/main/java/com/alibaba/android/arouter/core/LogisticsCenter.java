@@ -4,7 +4,6 @@ import android.content.Context;
 import android.net.Uri;
 
 import com.alibaba.android.arouter.exception.HandlerException;
-import com.alibaba.android.arouter.exception.NoRouteFoundException;
 import com.alibaba.android.arouter.facade.Postcard;
 import com.alibaba.android.arouter.facade.enums.TypeKind;
 import com.alibaba.android.arouter.facade.model.RouteMeta;
@@ -14,17 +13,21 @@ import com.alibaba.android.arouter.facade.template.IProviderGroup;
 import com.alibaba.android.arouter.facade.template.IRouteGroup;
 import com.alibaba.android.arouter.facade.template.IRouteRoot;
 import com.alibaba.android.arouter.launcher.ARouter;
+import com.alibaba.android.arouter.platform.Platforms;
 import com.alibaba.android.arouter.utils.ClassUtils;
 import com.alibaba.android.arouter.utils.Consts;
-import com.alibaba.android.arouter.utils.MapUtils;
+import com.alibaba.android.arouter.utils.LogUtils;
 import com.alibaba.android.arouter.utils.PackageUtils;
 import com.alibaba.android.arouter.utils.TextUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import static com.alibaba.android.arouter.launcher.ARouter.logger;
@@ -45,15 +48,17 @@ import static com.alibaba.android.arouter.utils.Consts.TAG;
  * 1. Creates instance when it is first used.
  * 2. Handler Multi-Module relationship map(*)
  * 3. Complex logic to solve duplicate group definition
+ * <p>
+ * The static methods work on the default RouterEngine, the state is owned by engine.
  *
  * @author Alex <a href="mailto:zhilong.liu@aliyun.com">Contact me.</a>
  * @version 1.0
  * @since 16/8/23 15:02
  */
 public class LogisticsCenter {
-    private static Context mContext;
-    static ThreadPoolExecutor executor;
     private static boolean registerByPlugin;
+    private static RouterEngine registering;  // The engine which is loading router map, only set in init.
+    private static final TypeKind[] TYPE_KINDS = TypeKind.values();   // Cache it, values() copy the array every time.
 
     /**
      * arouter-auto-register plugin will generate code inside this method
@@ -79,11 +84,13 @@ public class LogisticsCenter {
      * 通过反射实例化对应的子类并调用其loadInto方法
      */
     private static void register(String className) {
-        logger.info(TAG, "className:" + className);
+        LogUtils.info(TAG, "className:%s", className);
         if (!TextUtils.isEmpty(className)) {
             try {
+                long begin = StartupReport.now();
                 Class<?> clazz = Class.forName(className);
                 Object obj = clazz.getConstructor().newInstance();
+                long created = StartupReport.now();
                 if (obj instanceof IRouteRoot) {
                     registerRouteRoot((IRouteRoot) obj);
                 } else if (obj instanceof IProviderGroup) {
@@ -94,6 +101,11 @@ public class LogisticsCenter {
                     logger.info(TAG, "register failed, class name: " + className
                             + " should implements one of IRouteRoot/IProviderGroup/IInterceptorGroup.");
                 }
+
+                StartupReport report = registering.startupReport;
+                if (null != report) {
+                    report.recordClassLoad(className, created - begin, StartupReport.now() - created);
+                }
             } catch (Exception e) {
                 logger.error(TAG,"register class error:" + className, e);
             }
@@ -108,7 +120,7 @@ public class LogisticsCenter {
     private static void registerRouteRoot(IRouteRoot routeRoot) {
         markRegisteredByPlugin();
         if (routeRoot != null) {
-            routeRoot.loadInto(Warehouse.groupsIndex);
+            routeRoot.loadInto(registering.warehouse.groupsIndex);
         }
     }
 
@@ -119,7 +131,7 @@ public class LogisticsCenter {
     private static void registerInterceptor(IInterceptorGroup interceptorGroup) {
         markRegisteredByPlugin();
         if (interceptorGroup != null) {
-            interceptorGroup.loadInto(Warehouse.interceptorsIndex);
+            interceptorGroup.loadInto(registering.warehouse.interceptorsIndex);
         }
     }
 
@@ -130,7 +142,7 @@ public class LogisticsCenter {
     private static void registerProvider(IProviderGroup providerGroup) {
         markRegisteredByPlugin();
         if (providerGroup != null) {
-            providerGroup.loadInto(Warehouse.providersIndex);
+            providerGroup.loadInto(registering.warehouse.providersIndex);
         }
     }
 
@@ -147,15 +159,36 @@ public class LogisticsCenter {
     /**
      * LogisticsCenter init, load all metas in memory. Demand initialization
      */
-    public synchronized static void init(Context context, ThreadPoolExecutor tpe) throws HandlerException {
-        mContext = context;
-        executor = tpe;
+    public static void init(Context context, ThreadPoolExecutor tpe) throws HandlerException {
+        RouterEngine engine = RouterEngine.getDefault();
+        engine.executor = tpe;
+        engine.load(context);
+    }
+
+    /**
+     * Load all metas into warehouse of engine, the caller should hold the lock of engine.
+     */
+    synchronized static void init(RouterEngine engine, Context context) throws HandlerException {
+        engine.context = context;
+        Warehouse warehouse = engine.warehouse;
+
+        StartupReport report = new StartupReport();
+        engine.startupReport = report;
 
         try {
             long startInit = System.currentTimeMillis();
+            long reportInit = StartupReport.now();
+            long metricsInit = Metrics.begin();
+            long metricsPhase = metricsInit;
             //load by plugin first
             // 首先执行transform生成的注册代码
-            loadRouterMap();
+            registering = engine;
+            try {
+                loadRouterMap();
+            } finally {
+                registering = null;
+            }
+            report.setRegisterByPlugin(registerByPlugin);
             if (registerByPlugin) {
                 // 已执行ARouter自动注册插件利用transform生成的注册代码
                 logger.info(TAG, "Load router map by arouter-auto-register plugin.");
@@ -163,67 +196,107 @@ public class LogisticsCenter {
                 // 未执行ARouter自动注册插件利用transform生成的注册代码，利用反射实例化并调用对应类的loadInto方法
                 Set<String> routerMap;
 
+                boolean rebuild = ARouter.debuggable();
+                if (!rebuild) {
+                    long begin = StartupReport.now();
+                    rebuild = PackageUtils.isNewVersion(context);
+                    report.setIsNewVersionNanos(StartupReport.now() - begin);
+                }
+
                 // It will rebuild router map every times when debuggable.
-                if (ARouter.debuggable() || PackageUtils.isNewVersion(context)) {
+                if (rebuild) {
                     // 如果时debug模式 或 安装新版本app
                     logger.info(TAG, "Run with debug mode or new install, rebuild router map.");
                     // These class was generated by arouter-compiler.
                     // 收集所有dex中位于com.alibaba.android.arouter.routes包下的类(ps：这些类都是arouter-compiler利用apt注解处理器生成的)
-                    routerMap = ClassUtils.getFileNameByPackageName(mContext, ROUTE_ROOT_PAKCAGE);
+                    long begin = StartupReport.now();
+                    routerMap = ClassUtils.getFileNameByPackageName(context, ROUTE_ROOT_PAKCAGE, report);
+                    report.setScanNanos(StartupReport.now() - begin);
+
+                    begin = StartupReport.now();
                     if (!routerMap.isEmpty()) {
                         // 将这些类保存到sp中
-                        context.getSharedPreferences(AROUTER_SP_CACHE_KEY, Context.MODE_PRIVATE).edit().putStringSet(AROUTER_SP_KEY_MAP, routerMap).apply();
+                        Platforms.getKeyValueStore(context, AROUTER_SP_CACHE_KEY).putStringSet(AROUTER_SP_KEY_MAP, routerMap);
                     }
 
                     // 更新sp中的版本号
                     PackageUtils.updateVersion(context);    // Save new version name when router map update finishes.
+                    report.addSpWriteNanos(StartupReport.now() - begin);
                 } else {
                     // 如果不是debug模式 且 不是安装新版本app
                     logger.info(TAG, "Load router map from cache.");
                     // 从sp中取出位于com.alibaba.android.arouter.routes包下的类
-                    routerMap = new HashSet<>(context.getSharedPreferences(AROUTER_SP_CACHE_KEY, Context.MODE_PRIVATE).getStringSet(AROUTER_SP_KEY_MAP, new HashSet<String>()));
+                    long begin = StartupReport.now();
+                    routerMap = new HashSet<>(Platforms.getKeyValueStore(context, AROUTER_SP_CACHE_KEY).getStringSet(AROUTER_SP_KEY_MAP, new HashSet<String>()));
+                    report.addSpReadNanos(StartupReport.now() - begin);
                 }
 
                 logger.info(TAG, "Find router map finished, map size = " + routerMap.size() + ", cost " + (System.currentTimeMillis() - startInit) + " ms.");
                 startInit = System.currentTimeMillis();
+                Metrics.time(Metrics.INIT, Metrics.INIT_FIND_ROUTER_MAP, metricsPhase);
+                metricsPhase = Metrics.begin();
 
                 for (String className : routerMap) {
                     if (className.startsWith(ROUTE_ROOT_PAKCAGE + DOT + SDK_NAME + SEPARATOR + SUFFIX_ROOT)) {
                         // 如果位于com.alibaba.android.arouter.routes包下的类是以
                         // com.alibaba.android.arouter.routes.ARouter$$Root开头的，
-                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为Warehouse.groupsIndex赋值
+                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为warehouse.groupsIndex赋值
                         // This one of root elements, load root.
-                        ((IRouteRoot) (Class.forName(className).getConstructor().newInstance())).loadInto(Warehouse.groupsIndex);
+                        long begin = StartupReport.now();
+                        IRouteRoot routeRoot = (IRouteRoot) Class.forName(className).getConstructor().newInstance();
+                        long created = StartupReport.now();
+                        routeRoot.loadInto(warehouse.groupsIndex);
+                        report.recordClassLoad(className, created - begin, StartupReport.now() - created);
                     } else if (className.startsWith(ROUTE_ROOT_PAKCAGE + DOT + SDK_NAME + SEPARATOR + SUFFIX_INTERCEPTORS)) {
                         // 如果位于com.alibaba.android.arouter.routes包下的类是以
                         // com.alibaba.android.arouter.routes.ARouter$$Interceptors开头的，
-                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为Warehouse.interceptorsIndex赋值
+                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为warehouse.interceptorsIndex赋值
                         // Load interceptorMeta
-                        ((IInterceptorGroup) (Class.forName(className).getConstructor().newInstance())).loadInto(Warehouse.interceptorsIndex);
+                        long begin = StartupReport.now();
+                        IInterceptorGroup interceptorGroup = (IInterceptorGroup) Class.forName(className).getConstructor().newInstance();
+                        long created = StartupReport.now();
+                        interceptorGroup.loadInto(warehouse.interceptorsIndex);
+                        report.recordClassLoad(className, created - begin, StartupReport.now() - created);
                     } else if (className.startsWith(ROUTE_ROOT_PAKCAGE + DOT + SDK_NAME + SEPARATOR + SUFFIX_PROVIDERS)) {
                         // 如果位于com.alibaba.android.arouter.routes包下的类是以
                         // com.alibaba.android.arouter.routes.ARouter$$Providers开头的，
-                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为Warehouse.providersIndex赋值
+                        // 则反射其无参构造函数实例化并调用其`loadInto`方法为warehouse.providersIndex赋值
                         // Load providerIndex
-                        ((IProviderGroup) (Class.forName(className).getConstructor().newInstance())).loadInto(Warehouse.providersIndex);
+                        long begin = StartupReport.now();
+                        IProviderGroup providerGroup = (IProviderGroup) Class.forName(className).getConstructor().newInstance();
+                        long created = StartupReport.now();
+                        providerGroup.loadInto(warehouse.providersIndex);
+                        report.recordClassLoad(className, created - begin, StartupReport.now() - created);
                     }
                 }
             }
 
             logger.info(TAG, "Load root element finished, cost " + (System.currentTimeMillis() - startInit) + " ms.");
+            Metrics.time(Metrics.INIT, Metrics.INIT_LOAD_ROOT, metricsPhase);
+            Metrics.time(Metrics.INIT, Metrics.INIT_TOTAL, metricsInit);
+            report.setTotalNanos(StartupReport.now() - reportInit);
 
-            if (Warehouse.groupsIndex.size() == 0) {
+            if (warehouse.groupsIndex.size() == 0) {
                 logger.error(TAG, "No mapping files were found, check your configuration please!");
             }
 
             if (ARouter.debuggable()) {
-                logger.debug(TAG, String.format(Locale.getDefault(), "LogisticsCenter has already been loaded, GroupIndex[%d], InterceptorIndex[%d], ProviderIndex[%d]", Warehouse.groupsIndex.size(), Warehouse.interceptorsIndex.size(), Warehouse.providersIndex.size()));
+                LogUtils.debug(TAG, "LogisticsCenter has already been loaded, GroupIndex[%d], InterceptorIndex[%d], ProviderIndex[%d]", warehouse.groupsIndex.size(), warehouse.interceptorsIndex.size(), warehouse.providersIndex.size());
             }
         } catch (Exception e) {
             throw new HandlerException(TAG + "ARouter init logistics center exception! [" + e.getMessage() + "]");
         }
     }
 
+    /**
+     * Cost of the phases in init, the cost of interceptors initialization will be filled later.
+     *
+     * @return report of last init, null if it's not initialized.
+     */
+    public static StartupReport getStartupReport() {
+        return RouterEngine.getDefault().getStartupReport();
+    }
+
     /**
      * Build postcard by serviceName
      *
@@ -231,8 +304,12 @@ public class LogisticsCenter {
      * @return postcard
      */
     public static Postcard buildProvider(String serviceName) {
+        return RouterEngine.getDefault().buildProvider(serviceName);
+    }
+
+    static Postcard buildProvider(RouterEngine engine, String serviceName) {
         // 根据service的全路径类名，从Warehouse.providersIndex中找到对应的RouteMeta
-        RouteMeta meta = Warehouse.providersIndex.get(serviceName);
+        RouteMeta meta = engine.warehouse.providersIndex.get(serviceName);
 
         if (null == meta) {
             return null;
@@ -247,114 +324,232 @@ public class LogisticsCenter {
      * 根据postcard的path查找Warehouse.routes中对应的路由信息RouteMeta，并完善postcard
      * @param postcard 待完善的postcard，Incomplete postcard, should complete by this method.
      */
-    public synchronized static void completion(Postcard postcard) {
+    public static void completion(Postcard postcard) {
+        RouterEngine.getDefault().completion(postcard);
+    }
+
+    /**
+     * Completion the postcard by route metas, without throwing exceptions when route missing.
+     * 和completion一致，但是通过返回值告知结果，路由不存在时不会抛异常
+     *
+     * @param postcard Incomplete postcard, should complete by this method.
+     * @return resolution of this postcard.
+     */
+    public static RouteResolution resolve(Postcard postcard) {
+        return RouterEngine.getDefault().resolve(postcard);
+    }
+
+    /**
+     * Resolve the postcard by routes of engine, the caller should hold the lock of engine.
+     * Uri cache is only used by the default engine.
+     */
+    static RouteResolution resolve(RouterEngine engine, Postcard postcard) {
         if (null == postcard) {
-            throw new NoRouteFoundException(TAG + "No postcard!");
+            return RouteResolution.missing(TAG + "No postcard!");
+        }
+
+        // Take the generation of cache before reading overrides and routes, which may be changed without the lock of engine.
+        // The postcard degraded to another path still has the original uri, never cache the degrade target under it.
+        Uri rawUri = postcard.getUri();
+        String uriKey = (null != rawUri && engine.isDefault() && UriCache.isOpen() && isPathOfUri(postcard, rawUri))
+                ? rawUri.toString() : null;
+        int generation = null == uriKey ? 0 : UriCache.generation();
+
+        RouteOverrides.Entry override = engine.getRouteOverrides().get(postcard.getPath());
+        if (null != override && override.isDisabled()) {
+            return RouteResolution.missing(TAG + "The route [%s] has been disabled by overrides.", postcard.getPath());
         }
 
-        // 根据postcard的path，从Warehouse.routes中获取对应的RouteMeta
-        RouteMeta routeMeta = Warehouse.routes.get(postcard.getPath());
+        // Deep link has been resolved before, reuse the route and params.
+        UriCache.CachedUri cached = null == uriKey ? null : UriCache.get(uriKey);
+        if (null != cached && null != cached.getMeta()) {
+            engine.warehouse.memory.touch(postcard.getPath(), postcard.getGroup());
+            postcard.getExtras().putAll(cached.getParams());
+            return complete(engine, postcard, cached.getMeta());
+        }
+
+        // Params from uri will be cached, parse them into a new bundle.
+        Postcard params = null == uriKey ? postcard : new Postcard();
+
+        // Routes in snapshot cover the others, even the bound one.
+        RouteSnapshot snapshot = engine.getRouteSnapshot();
+        RouteMeta routeMeta = snapshot.get(postcard.getPath());
+        if (null == routeMeta) {
+            // 根据postcard的path，从Warehouse.routes中获取对应的RouteMeta
+            // The loaded route goes first, it may be covered by a dynamic group after the navigator compiled.
+            routeMeta = engine.warehouse.routes.get(postcard.getPath());
+            if (null == routeMeta) {
+                // Generated navigator has bound the meta, needn't load its group.
+                routeMeta = postcard.getBoundMeta();
+            }
+            if (null != routeMeta) {
+                engine.warehouse.memory.touch(postcard.getPath(), postcard.getGroup());
+            }
+        }
         if (null == routeMeta) {
             // 如果Warehouse.routes中找不到，则可能不存在对应的RouteMeta 或 对应的RouteMeta还没加载到Warehouse.routes中
             // Maybe its does't exist, or didn't load.
-            if (!Warehouse.groupsIndex.containsKey(postcard.getGroup())) {
-                // 如果postcard对应的group，在Warehouse.groupsIndex中不存在，说明该postcard不存在对应的RouteMeta
+            if (!engine.warehouse.groupsIndex.containsKey(postcard.getGroup())) {
+                // 如果postcard对应的group，在Warehouse.groupsIndex中不存在，说明该group已加载，再尝试匹配带变量的路由
                 // Warehouse.groupsIndex在ARouter初始化时传给ARouter$$Root$${moduleName}.loadInto(Map<String, Class<? extends IRouteGroup>> routes)
-                throw new NoRouteFoundException(TAG + "There is no route match the path [" + postcard.getPath() + "], in group [" + postcard.getGroup() + "]");
+                routeMeta = matchTemplate(snapshot.match(postcard.getPath()), params);
+                if (null == routeMeta) {
+                    routeMeta = matchTemplate(engine.warehouse.matchers.get(postcard.getGroup()), postcard, params);
+                    if (null != routeMeta) {
+                        engine.warehouse.memory.touch(null, postcard.getGroup());
+                    }
+                }
+                if (null == routeMeta) {
+                    // 仍然找不到，说明该postcard不存在对应的RouteMeta
+                    return RouteResolution.missing(TAG + "There is no route match the path [%s], in group [%s]", postcard.getPath(), postcard.getGroup());
+                }
             } else {
                 // Load route and cache it into memory, then delete from metas.
                 try {
                     if (ARouter.debuggable()) {
-                        logger.debug(TAG, String.format(Locale.getDefault(), "The group [%s] starts loading, trigger by [%s]", postcard.getGroup(), postcard.getPath()));
+                        LogUtils.debug(TAG, "The group [%s] starts loading, trigger by [%s]", postcard.getGroup(), postcard.getPath());
                     }
 
                     // 根据groupName动态添加路由信息到Warehouse.routes中
-                    addRouteGroupDynamic(postcard.getGroup(), null);
+                    addRouteGroupDynamic(engine, postcard.getGroup(), null);
 
                     if (ARouter.debuggable()) {
-                        logger.debug(TAG, String.format(Locale.getDefault(), "The group [%s] has already been loaded, trigger by [%s]", postcard.getGroup(), postcard.getPath()));
+                        LogUtils.debug(TAG, "The group [%s] has already been loaded, trigger by [%s]", postcard.getGroup(), postcard.getPath());
                     }
                 } catch (Exception e) {
-                    throw new HandlerException(TAG + "Fatal exception when loading group meta. [" + e.getMessage() + "]");
+                    return RouteResolution.error(TAG + "Fatal exception when loading group meta. [%s]", e.getMessage(), e);
                 }
 
-                // groupName对应的ARouter$$Group$${groupName}中的路由信息添加完后，重新执行completion方法完善postcard
-                completion(postcard);   // Reload
+                // groupName对应的ARouter$$Group$${groupName}中的路由信息添加完后，重新执行resolve方法完善postcard
+                return resolve(engine, postcard);   // Reload
             }
-        } else {
-            // 根据path对应的RouteMeta，完善postcard
-            postcard.setDestination(routeMeta.getDestination());
-            postcard.setType(routeMeta.getType());
-            postcard.setPriority(routeMeta.getPriority());
-            postcard.setExtra(routeMeta.getExtra());
-
-            Uri rawUri = postcard.getUri();
-            if (null != rawUri) {   // Try to set params into bundle.
-                // 如果uri不为null，则尝试将uri中的参数放入postcard的bundle中
-
-                // uri中的参数的key-value map
-                Map<String, String> resultMap = TextUtils.splitQueryParameters(rawUri);
-                // 以@Autowired的name属性的值为key，成员变量的类型对应的枚举的ordinal为value
-                Map<String, Integer> paramsType = routeMeta.getParamsType();
-
-                if (MapUtils.isNotEmpty(paramsType)) {
-                    // Set value by its type, just for params which annotation by @Param
-                    for (Map.Entry<String, Integer> params : paramsType.entrySet()) {
-                        // 根据routeMeta中对应参数的数据类型 和 uri中对应参数的value，给postcard填充mBundle
-                        setValue(postcard,
-                                params.getValue(),
-                                params.getKey(),
-                                resultMap.get(params.getKey()));
-                    }
+        }
 
-                    // Save params name which need auto inject.
-                    // 将参数名数组化并存入postcard的mBundle中，后续为Activity自动注入参数时会用到，忽略
-                    postcard.getExtras().putStringArray(ARouter.AUTO_INJECT, paramsType.keySet().toArray(new String[]{}));
+        if (null != rawUri) {   // Try to set params into bundle.
+            // 如果uri不为null，则尝试将uri中的参数放入postcard的bundle中
+
+            // 以@Autowired的name属性的值为key，成员变量的类型对应的枚举的ordinal为value
+            String[] paramsName = routeMeta.getParamsName();
+
+            if (paramsName.length > 0) {
+                // Set value by its type, just for params which annotation by @Param
+                // 只解析paramsType中声明过的参数，其余参数不做解码
+                String query = rawUri.getEncodedQuery();
+                if (null != query) {
+                    setValues(params, query, paramsName, routeMeta.getParamsTypeCode());
                 }
 
-                // Save raw uri
-                // 将uri保存到postcard的mBundle中
-                postcard.withString(ARouter.RAW_URI, rawUri.toString());
+                // Save params name which need auto inject.
+                // 将参数名数组化并存入postcard的mBundle中，后续为Activity自动注入参数时会用到，忽略
+                params.getExtras().putStringArray(ARouter.AUTO_INJECT, paramsName.clone());
+            }
+
+            // Save raw uri
+            // 将uri保存到postcard的mBundle中
+            params.withString(ARouter.RAW_URI, rawUri.toString());
+
+            if (params != postcard) {
+                postcard.getExtras().putAll(params.getExtras());
+                UriCache.putResolved(uriKey, routeMeta, params.getExtras(), generation);
             }
+        }
+
+        return complete(engine, postcard, routeMeta);
+    }
+
+    private static boolean isPathOfUri(Postcard postcard, Uri uri) {
+        String path = postcard.getPath();
+        return !postcard.getExtras().containsKey(ARouter.DEGRADE_FROM) && null != path && path.equals(uri.getPath());
+    }
 
-            switch (routeMeta.getType()) {
-                case PROVIDER:  // if the route is provider, should find its instance
-                    // 如果routeMeta的类型时PROVIDER，有两种情况：
-                    // 1. IProvider实现类直接implement IProvider
-                    // 2. IProvider实现类 implement 的接口 extends IProvider
-
-                    // Its provider, so it must implement IProvider
-                    // 从routeMeta的destination获得IProvider具体实现类的Class对象
-                    Class<? extends IProvider> providerMeta = (Class<? extends IProvider>) routeMeta.getDestination();
-                    // 从Warehouse.providers获取IProvider具体实现类的实例对象
-                    IProvider instance = Warehouse.providers.get(providerMeta);
-                    if (null == instance) { // There's no instance of this provider
-                        // IProvider具体实现类尚未初始化过
-                        IProvider provider;
-                        try {
-                            // 反射IProvider具体实现类的构造函数初始化
-                            provider = providerMeta.getConstructor().newInstance();
-                            // 调用init方法
-                            provider.init(mContext);
-                            // 将IProvider具体实现类的实例保存到Warehouse.providers中
-                            Warehouse.providers.put(providerMeta, provider);
-                            instance = provider;
-                        } catch (Exception e) {
-                            logger.error(TAG, "Init provider failed!", e);
-                            throw new HandlerException("Init provider failed!");
-                        }
+    /**
+     * Complete the postcard by route meta.
+     *
+     * @param engine    engine which owns the provider
+     * @param postcard  postcard
+     * @param routeMeta matched route
+     */
+    private static RouteResolution complete(RouterEngine engine, Postcard postcard, RouteMeta routeMeta) {
+        // 根据path对应的RouteMeta，完善postcard
+        postcard.setDestination(routeMeta.getDestination());
+        postcard.setType(routeMeta.getType());
+        postcard.setPriority(routeMeta.getPriority());
+        postcard.setExtra(routeMeta.getExtra());
+
+        switch (routeMeta.getType()) {
+            case PROVIDER:  // if the route is provider, should find its instance
+                // 如果routeMeta的类型时PROVIDER，有两种情况：
+                // 1. IProvider实现类直接implement IProvider
+                // 2. IProvider实现类 implement 的接口 extends IProvider
+
+                // Its provider, so it must implement IProvider
+                // 从routeMeta的destination获得IProvider具体实现类的Class对象
+                Class<? extends IProvider> providerMeta = (Class<? extends IProvider>) routeMeta.getDestination();
+                // 从Warehouse.providers获取IProvider具体实现类的实例对象
+                IProvider instance = engine.warehouse.providers.get(providerMeta);
+                if (null == instance) { // There's no instance of this provider
+                    // IProvider具体实现类尚未初始化过
+                    IProvider provider;
+                    try {
+                        long begin = Metrics.begin();
+                        // 反射IProvider具体实现类的构造函数初始化
+                        provider = providerMeta.getConstructor().newInstance();
+                        // 调用init方法
+                        provider.init(engine.context);
+                        Metrics.time(Metrics.PROVIDER_INIT, providerMeta.getName(), begin);
+                        // 将IProvider具体实现类的实例保存到Warehouse.providers中
+                        engine.warehouse.providers.put(providerMeta, provider);
+                        instance = provider;
+                    } catch (Exception e) {
+                        logger.error(TAG, "Init provider failed!", e);
+                        return RouteResolution.error("Init provider failed!", e);
                     }
-                    // 为postcard设置provider
-                    postcard.setProvider(instance);
-                    // PROVIDER类型的postcard默认设置绿色通道
-                    postcard.greenChannel();    // Provider should skip all of interceptors
-                    break;
-                case FRAGMENT:
-                    // FRAGMENT类型的postcard默认设置绿色通道
-                    postcard.greenChannel();    // Fragment needn't interceptors
-                default:
-                    break;
+                }
+                // 为postcard设置provider
+                postcard.setProvider(instance);
+                // PROVIDER类型的postcard默认设置绿色通道
+                postcard.greenChannel();    // Provider should skip all of interceptors
+                break;
+            case FRAGMENT:
+                // FRAGMENT类型的postcard默认设置绿色通道
+                postcard.greenChannel();    // Fragment needn't interceptors
+            default:
+                break;
+        }
+
+        return RouteResolution.found();
+    }
+
+    /**
+     * Scan the encoded query once, set value of params which declared in paramsType.
+     * The last one wins if the param appears more than once.
+     *
+     * @param postcard   postcard
+     * @param query      encoded query of uri
+     * @param paramsName names of params
+     * @param paramsType type code of params
+     */
+    private static void setValues(Postcard postcard, String query, String[] paramsName, int[] paramsType) {
+        int length = query.length();
+        int start = 0;
+        while (start < length) {
+            int end = query.indexOf('&', start);
+            if (end == -1) {
+                end = length;
+            }
+
+            int separator = query.indexOf('=', start);
+            if (separator > end || separator == -1) {
+                separator = end;
             }
+
+            int index = TextUtils.indexOfQueryName(query, start, separator, paramsName);
+            if (index != -1 && separator < end) {
+                setValue(postcard, paramsType[index], paramsName[index], TextUtils.decodeQueryValue(query, separator + 1, end));
+            }
+
+            // Move start to end of name.
+            start = end + 1;
         }
     }
 
@@ -362,45 +557,50 @@ public class LogisticsCenter {
      * Set value by known type
      *
      * @param postcard postcard
-     * @param typeDef  type
+     * @param typeDef  type, ordinal of TypeKind
      * @param key      key
      * @param value    value
      */
-    private static void setValue(Postcard postcard, Integer typeDef, String key, String value) {
+    private static void setValue(Postcard postcard, int typeDef, String key, String value) {
         if (TextUtils.isEmpty(key) || TextUtils.isEmpty(value)) {
             return;
         }
 
+        // Compatible compiler sdk 1.0.3, in that version, the string type = 18
+        TypeKind kind = (typeDef >= 0 && typeDef < TYPE_KINDS.length) ? TYPE_KINDS[typeDef] : TypeKind.STRING;
+
         try {
-            if (null != typeDef) {
-                if (typeDef == TypeKind.BOOLEAN.ordinal()) {
+            switch (kind) {
+                case BOOLEAN:
                     postcard.withBoolean(key, Boolean.parseBoolean(value));
-                } else if (typeDef == TypeKind.BYTE.ordinal()) {
+                    break;
+                case BYTE:
                     postcard.withByte(key, Byte.parseByte(value));
-                } else if (typeDef == TypeKind.SHORT.ordinal()) {
+                    break;
+                case SHORT:
                     postcard.withShort(key, Short.parseShort(value));
-                } else if (typeDef == TypeKind.INT.ordinal()) {
+                    break;
+                case INT:
                     postcard.withInt(key, Integer.parseInt(value));
-                } else if (typeDef == TypeKind.LONG.ordinal()) {
+                    break;
+                case LONG:
                     postcard.withLong(key, Long.parseLong(value));
-                } else if (typeDef == TypeKind.FLOAT.ordinal()) {
+                    break;
+                case FLOAT:
                     postcard.withFloat(key, Float.parseFloat(value));
-                } else if (typeDef == TypeKind.DOUBLE.ordinal()) {
+                    break;
+                case DOUBLE:
                     postcard.withDouble(key, Double.parseDouble(value));
-                } else if (typeDef == TypeKind.STRING.ordinal()) {
-                    postcard.withString(key, value);
-                } else if (typeDef == TypeKind.PARCELABLE.ordinal()) {
+                    break;
+                case PARCELABLE:
                     // TODO : How to description parcelable value with string?
-                } else if (typeDef == TypeKind.OBJECT.ordinal()) {
-                    postcard.withString(key, value);
-                } else {    // Compatible compiler sdk 1.0.3, in that version, the string type = 18
+                    break;
+                default:    // String, object(json) and others.
                     postcard.withString(key, value);
-                }
-            } else {
-                postcard.withString(key, value);
+                    break;
             }
         } catch (Throwable ex) {
-            logger.warning(Consts.TAG, "LogisticsCenter setValue failed! " + ex.getMessage());
+            LogUtils.warning(Consts.TAG, "LogisticsCenter setValue failed! %s", ex.getMessage());
         }
     }
 
@@ -408,24 +608,206 @@ public class LogisticsCenter {
      * Suspend business, clear cache.
      */
     public static void suspend() {
-        Warehouse.clear();
+        RouterEngine.getDefault().clear();
     }
 
-    public synchronized static void addRouteGroupDynamic(String groupName, IRouteGroup group) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        if (Warehouse.groupsIndex.containsKey(groupName)) {
-            // 如果Warehouse.groupsIndex存在groupName，则说明对应的ARouter$$Group$${groupName}中的路由信息没加载到Warehouse.routes中
+    public static void addRouteGroupDynamic(String groupName, IRouteGroup group) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        RouterEngine.getDefault().addRouteGroupDynamic(groupName, group);
+    }
+
+    static void addRouteGroupDynamic(RouterEngine engine, String groupName, IRouteGroup group) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Warehouse warehouse = engine.warehouse;
+        if (warehouse.groupsIndex.containsKey(groupName)) {
+            // 如果warehouse.groupsIndex存在groupName，则说明对应的ARouter$$Group$${groupName}中的路由信息没加载到warehouse.routes中
             // If this group is included, but it has not been loaded
             // load this group first, because dynamic route has high priority.
-            // 通过反射实例化ARouter$$Group$${groupName}，并将Warehouse.routes传给loadInto方法加载路由信息
-            Warehouse.groupsIndex.get(groupName).getConstructor().newInstance().loadInto(Warehouse.routes);
-            // ARouter$$Group$${groupName}中的路由信息加载完后，将它从Warehouse.groupsIndex中移除，避免动态添加路由时传的相同的groupName导致重复加载
-            Warehouse.groupsIndex.remove(groupName);
+            // 通过反射实例化ARouter$$Group$${groupName}，并将warehouse.routes传给loadInto方法加载路由信息
+            long begin = Metrics.begin();
+            Class<? extends IRouteGroup> groupClass = warehouse.groupsIndex.get(groupName);
+            loadGroup(engine, groupName, groupClass.getConstructor().newInstance(), groupClass);
+            Metrics.time(Metrics.GROUP_LOAD, groupName, begin);
+            // ARouter$$Group$${groupName}中的路由信息加载完后，将它从warehouse.groupsIndex中移除，避免动态添加路由时传的相同的groupName导致重复加载
+            warehouse.groupsIndex.remove(groupName);
         }
 
         // cover old group.
         if (null != group) {
-            // 如果group不为空，则将Warehouse.routes传给它的loadInto方法加载路由信息，外部通过ARouter动态加载路由信息时会传group参数
-            group.loadInto(Warehouse.routes);
+            // 如果group不为空，则将warehouse.routes传给它的loadInto方法加载路由信息，外部通过ARouter动态加载路由信息时会传group参数
+            loadGroup(engine, groupName, group, null);
+        }
+
+        evictGroups(engine, groupName);
+    }
+
+    /**
+     * Load routes of group, and index the templated path.
+     *
+     * @param engine    engine which the routes load into
+     * @param groupName name of group
+     * @param group     group of routes
+     * @param source    class of group to load it again after evicted, null if it's added dynamically.
+     */
+    private static void loadGroup(RouterEngine engine, String groupName, IRouteGroup group, Class<? extends IRouteGroup> source) {
+        Warehouse warehouse = engine.warehouse;
+        Map<String, RouteMeta> atlas = new HashMap<>();
+        group.loadInto(atlas);
+        warehouse.routes.putAll(atlas);
+        warehouse.memory.loaded(groupName, source, atlas);
+        if (engine.isDefault()) {
+            UriCache.invalidate();  // Routes has been changed.
+        }
+
+        for (Map.Entry<String, RouteMeta> entry : atlas.entrySet()) {
+            RouteMeta meta = entry.getValue();
+            if (null != warehouse.routeIndex) {
+                warehouse.routeIndex.put(entry.getKey(), meta);
+            }
+            // Path and group of meta are in lower case, use the key of atlas and the name in groupsIndex,
+            // which are same as the postcard.
+            if (PathMatcher.isTemplate(entry.getKey())) {
+                PathMatcher matcher = warehouse.matchers.get(groupName);
+                if (null == matcher) {
+                    matcher = new PathMatcher();
+                    warehouse.matchers.put(groupName, matcher);
+                }
+                matcher.add(entry.getKey(), meta);
+            }
+        }
+    }
+
+    /**
+     * Evict the least recently used groups until the routes are under the limit of memory,
+     * then put them back into groupsIndex, they will be loaded again on next access.
+     *
+     * @param engine engine
+     * @param except the group just loaded
+     */
+    static void evictGroups(RouterEngine engine, String except) {
+        Warehouse warehouse = engine.warehouse;
+        String groupName;
+        boolean evicted = false;
+        while (null != (groupName = warehouse.memory.nextEviction(except))) {
+            RouteMemory.LoadedGroup group = warehouse.memory.evict(groupName);
+            for (Map.Entry<String, RouteMeta> entry : group.routes.entrySet()) {
+                // The route may be covered by another group.
+                if (warehouse.routes.get(entry.getKey()) == entry.getValue()) {
+                    warehouse.routes.remove(entry.getKey());
+                }
+                if (null != warehouse.routeIndex) {
+                    warehouse.routeIndex.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            warehouse.matchers.remove(groupName);
+            warehouse.groupsIndex.put(groupName, group.source);
+            Metrics.count(Metrics.GROUP_EVICT, groupName);
+            evicted = true;
+
+            if (ARouter.debuggable()) {
+                LogUtils.debug(TAG, "The group [%s] has been evicted, %d routes released.", groupName, group.routes.size());
+            }
+        }
+
+        if (evicted && engine.isDefault()) {
+            UriCache.invalidate();  // The cached metas of evicted groups are released.
+        }
+    }
+
+    /**
+     * Build radix tree index for loaded routes, the routes will be added into it when group loaded.
+     */
+    public static void openRouteIndex() {
+        RouterEngine.getDefault().openRouteIndex();
+    }
+
+    static void openRouteIndex(Warehouse warehouse) {
+        if (null == warehouse.routeIndex) {
+            warehouse.routeIndex = new RouteIndex();
+            for (Map.Entry<String, RouteMeta> entry : warehouse.routes.entrySet()) {
+                warehouse.routeIndex.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Find the loaded routes under prefix, like '/settings/account' for '/settings'.
+     * Scan all of loaded routes if the index is not open.
+     *
+     * @param prefix prefix of path
+     * @return routes sorted by path
+     */
+    public static List<RouteMeta> findRoutes(String prefix) {
+        return RouterEngine.getDefault().findRoutes(prefix);
+    }
+
+    static List<RouteMeta> findRoutes(Warehouse warehouse, String prefix) {
+        if (null != warehouse.routeIndex) {
+            return warehouse.routeIndex.prefix(prefix);
+        }
+
+        // Same as the index, by the path in atlas.
+        TreeMap<String, RouteMeta> result = new TreeMap<>();
+        for (Map.Entry<String, RouteMeta> entry : warehouse.routes.entrySet()) {
+            String path = entry.getKey();
+            if (null != path && path.startsWith(prefix)
+                    && (path.length() == prefix.length() || prefix.endsWith("/") || path.charAt(prefix.length()) == '/')) {
+                result.put(path, entry.getValue());
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * Find the loaded route which is the nearest parent of path, used for degrade.
+     * Scan parents one by one if the index is not open.
+     *
+     * @param path path
+     * @return route of path itself or its nearest parent, null if not found.
+     */
+    public static RouteMeta findNearestRoute(String path) {
+        return RouterEngine.getDefault().findNearestRoute(path);
+    }
+
+    static RouteMeta findNearestRoute(Warehouse warehouse, String path) {
+        if (null != warehouse.routeIndex) {
+            return warehouse.routeIndex.longestPrefix(path);
+        }
+
+        for (String parent = path; !TextUtils.isEmpty(parent); parent = parent.substring(0, parent.lastIndexOf('/'))) {
+            RouteMeta meta = warehouse.routes.get(parent);
+            if (null != meta) {
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Match the templated path, values captured from path will be set by its type.
+     *
+     * @param matcher  matcher of group, nullable
+     * @param postcard postcard
+     * @param params   postcard which the values will be set into
+     * @return matched meta, null if not matched.
+     */
+    private static RouteMeta matchTemplate(PathMatcher matcher, Postcard postcard, Postcard params) {
+        return matchTemplate(null == matcher ? null : matcher.match(postcard.getPath()), params);
+    }
+
+    /**
+     * Set the values captured from path by their types.
+     *
+     * @param matched result of matching, nullable
+     * @param params  postcard which the values will be set into
+     * @return matched meta, null if not matched.
+     */
+    private static RouteMeta matchTemplate(PathMatcher.Matched matched, Postcard params) {
+        if (null == matched) {
+            return null;
+        }
+
+        for (int i = 0; i < matched.names.length; i++) {
+            setValue(params, matched.types[i], matched.names[i], matched.values[i]);
         }
+        return matched.meta;
     }
 }
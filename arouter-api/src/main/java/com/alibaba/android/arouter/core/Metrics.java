@@ -0,0 +1,289 @@
+package com.alibaba.android.arouter.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Metrics recorded in monitor mode, counters and timers are named by metric and tag (path, group, type...).
+ * Counters are striped by thread, so the navigations in different threads don't contend on the same cell.
+ * 监控模式下的统计数据，按线程分段计数，避免多线程竞争
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 20:40
+ */
+public final class Metrics {
+    // Counters
+    public static final String NAVIGATION = "navigation";           // Tag is path
+    public static final String NAVIGATION_TYPE = "navigationType";  // Tag is RouteType
+    public static final String MISS = "miss";                       // Tag is group
+    public static final String INTERRUPT = "interrupt";             // Tag is path
+    public static final String DEGRADE = "degrade";                 // Tag is path of overrides, or group for DegradeService
+    public static final String GROUP_EVICT = "groupEvict";          // Tag is group
+
+    // Timers
+    public static final String INIT = "init";                       // Tag is phase
+    public static final String GROUP_LOAD = "groupLoad";            // Tag is group
+    public static final String PROVIDER_INIT = "providerInit";      // Tag is class name of provider
+
+    public static final String INIT_FIND_ROUTER_MAP = "findRouterMap";
+    public static final String INIT_LOAD_ROOT = "loadRoot";
+    public static final String INIT_TOTAL = "total";
+
+    /**
+     * Max tags of each metric, the tags beyond it are counted in {@link #OTHERS}, so the paths of deep links
+     * from outside don't grow the metrics without bound.
+     */
+    public static final int MAX_TAGS = 256;
+    public static final String OTHERS = "(others)";
+
+    private static final int STRIPES = stripes();
+
+    private static volatile boolean enabled;
+    private static final ConcurrentMap<String, ConcurrentMap<String, Counter>> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Increase the counter, nothing happen if not enabled.
+     */
+    public static void count(String name, String tag) {
+        if (enabled && null != tag) {
+            counter(name, tag).add(1);
+        }
+    }
+
+    /**
+     * @return begin of timing, 0 if not enabled.
+     */
+    public static long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record the cost since begin.
+     *
+     * @param begin returned by {@link #begin()}
+     */
+    public static void time(String name, String tag, long begin) {
+        if (0 != begin && null != tag) {
+            timer(name, tag).record(System.nanoTime() - begin);
+        }
+    }
+
+    /**
+     * Copy of all metrics, the values of different metrics are not read at the same moment.
+     */
+    public static Snapshot snapshot() {
+        Map<String, Map<String, Long>> counterValues = new HashMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, Counter>> metric : counters.entrySet()) {
+            Map<String, Long> values = new HashMap<>();
+            for (Map.Entry<String, Counter> entry : metric.getValue().entrySet()) {
+                values.put(entry.getKey(), entry.getValue().sum());
+            }
+            counterValues.put(metric.getKey(), Collections.unmodifiableMap(values));
+        }
+
+        Map<String, Map<String, TimerValue>> timerValues = new HashMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, Timer>> metric : timers.entrySet()) {
+            Map<String, TimerValue> values = new HashMap<>();
+            for (Map.Entry<String, Timer> entry : metric.getValue().entrySet()) {
+                Timer timer = entry.getValue();
+                values.put(entry.getKey(), new TimerValue(timer.count.sum(), timer.totalNanos.sum(), timer.maxNanos.get()));
+            }
+            timerValues.put(metric.getKey(), Collections.unmodifiableMap(values));
+        }
+
+        return new Snapshot(Collections.unmodifiableMap(counterValues), Collections.unmodifiableMap(timerValues));
+    }
+
+    public static void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    private static Counter counter(String name, String tag) {
+        ConcurrentMap<String, Counter> metric = metric(counters, name);
+        Counter counter = metric.get(tag);
+        if (null == counter && metric.size() >= MAX_TAGS) {
+            tag = OTHERS;
+            counter = metric.get(tag);
+        }
+        if (null == counter) {
+            Counter created = new Counter();
+            counter = metric.putIfAbsent(tag, created);
+            if (null == counter) {
+                counter = created;
+            }
+        }
+        return counter;
+    }
+
+    private static Timer timer(String name, String tag) {
+        ConcurrentMap<String, Timer> metric = metric(timers, name);
+        Timer timer = metric.get(tag);
+        if (null == timer && metric.size() >= MAX_TAGS) {
+            tag = OTHERS;
+            timer = metric.get(tag);
+        }
+        if (null == timer) {
+            Timer created = new Timer();
+            timer = metric.putIfAbsent(tag, created);
+            if (null == timer) {
+                timer = created;
+            }
+        }
+        return timer;
+    }
+
+    private static <T> ConcurrentMap<String, T> metric(ConcurrentMap<String, ConcurrentMap<String, T>> metrics, String name) {
+        ConcurrentMap<String, T> metric = metrics.get(name);
+        if (null == metric) {
+            ConcurrentMap<String, T> created = new ConcurrentHashMap<>();
+            metric = metrics.putIfAbsent(name, created);
+            if (null == metric) {
+                metric = created;
+            }
+        }
+        return metric;
+    }
+
+    private static int stripes() {
+        int stripes = 1;
+        while (stripes < Runtime.getRuntime().availableProcessors() * 2) {
+            stripes <<= 1;
+        }
+        return stripes;
+    }
+
+    /**
+     * Counter striped by thread, the cells are spread by 8 longs to avoid false sharing.
+     */
+    private static final class Counter {
+        private static final int SPREAD = 8;
+
+        private final AtomicLongArray cells = new AtomicLongArray(STRIPES * SPREAD);
+
+        void add(long delta) {
+            long id = Thread.currentThread().getId();
+            int stripe = (int) (id ^ (id >>> 16)) & (STRIPES - 1);
+            cells.getAndAdd(stripe * SPREAD, delta);
+        }
+
+        long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += cells.get(i * SPREAD);
+            }
+            return sum;
+        }
+    }
+
+    private static final class Timer {
+        private final Counter count = new Counter();
+        private final Counter totalNanos = new Counter();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long costNanos) {
+            count.add(1);
+            totalNanos.add(costNanos);
+
+            long max = maxNanos.get();
+            while (costNanos > max && !maxNanos.compareAndSet(max, costNanos)) {
+                max = maxNanos.get();
+            }
+        }
+    }
+
+    public static final class TimerValue {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        TimerValue(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count +
+                    ", avg=" + (0 == count ? 0 : totalNanos / count / 1000) + "us" +
+                    ", max=" + maxNanos / 1000 + "us";
+        }
+    }
+
+    /**
+     * Metric name -> tag -> value
+     */
+    public static final class Snapshot {
+        private final Map<String, Map<String, Long>> counters;
+        private final Map<String, Map<String, TimerValue>> timers;
+
+        Snapshot(Map<String, Map<String, Long>> counters, Map<String, Map<String, TimerValue>> timers) {
+            this.counters = counters;
+            this.timers = timers;
+        }
+
+        /**
+         * @return value of counter, 0 if nothing recorded.
+         */
+        public long getCount(String name, String tag) {
+            Map<String, Long> metric = counters.get(name);
+            Long value = null == metric ? null : metric.get(tag);
+            return null == value ? 0 : value;
+        }
+
+        /**
+         * @return value of timer, null if nothing recorded.
+         */
+        public TimerValue getTimer(String name, String tag) {
+            Map<String, TimerValue> metric = timers.get(name);
+            return null == metric ? null : metric.get(tag);
+        }
+
+        public Map<String, Map<String, Long>> getCounters() {
+            return counters;
+        }
+
+        public Map<String, Map<String, TimerValue>> getTimers() {
+            return timers;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "counters=" + counters +
+                    ", timers=" + timers +
+                    '}';
+        }
+    }
+}
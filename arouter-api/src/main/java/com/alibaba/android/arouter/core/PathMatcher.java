@@ -0,0 +1,160 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of templated path in one group, like '/product/{id}/detail'.
+ * Path is matched word by word, the cost is O(length of path), literal word is preferred to variable.
+ * 带变量路由的前缀树，每个group一棵，按'/'分段匹配，常量优先于变量
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 17:10
+ */
+final class PathMatcher {
+    private final Node root = new Node();
+    private int maxVariables;   // Size of values for matching.
+
+    /**
+     * Whether the path is templated.
+     */
+    static boolean isTemplate(String path) {
+        return null != path && path.indexOf('{') != -1;
+    }
+
+    /**
+     * Add templated route, the latter covers the former which has same template.
+     * The path of meta generated by arouter-compiler is in lower case, so the key of atlas is used,
+     * which keeps the case of words and names of variables.
+     *
+     * @param path templated path, the key of atlas
+     * @param meta meta of templated path
+     */
+    void add(String path, RouteMeta meta) {
+        String[] names = new String[count(path, '{')];
+        int variables = 0;
+
+        Node node = root;
+        int start = path.startsWith("/") ? 1 : 0;
+        while (start < path.length()) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = path.length();
+            }
+
+            if (path.charAt(start) == '{' && path.charAt(end - 1) == '}') {
+                names[variables++] = path.substring(start + 1, end - 1);
+                if (null == node.variable) {
+                    node.variable = new Node();
+                }
+                node = node.variable;
+            } else if (end > start) {
+                String word = path.substring(start, end);
+                Node child = node.children.get(word);
+                if (null == child) {
+                    child = new Node();
+                    node.children.put(word, child);
+                }
+                node = child;
+            }
+
+            start = end + 1;
+        }
+
+        int[] types = new int[variables];
+        Map<String, Integer> paramsType = meta.getParamsType();
+        for (int i = 0; i < variables; i++) {
+            Integer type = null == paramsType ? null : paramsType.get(names[i]);
+            types[i] = null == type ? -1 : type;
+        }
+
+        node.meta = meta;
+        node.names = names;
+        node.types = types;
+        maxVariables = Math.max(maxVariables, variables);
+    }
+
+    /**
+     * Match the path.
+     *
+     * @param path path, not templated.
+     * @return matched route and captured values, null if not matched.
+     */
+    Matched match(String path) {
+        if (null == path) {
+            return null;
+        }
+
+        String[] values = new String[maxVariables];
+        Node node = match(root, path, path.startsWith("/") ? 1 : 0, values, 0);
+        return null == node ? null : new Matched(node, values);
+    }
+
+    private Node match(Node node, String path, int start, String[] values, int captured) {
+        if (start >= path.length()) {
+            return null == node.meta ? null : node;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end == -1) {
+            end = path.length();
+        }
+
+        if (end == start) {     // Skip empty word, like '//'
+            return match(node, path, end + 1, values, captured);
+        }
+
+        Node child = node.children.get(path.substring(start, end));
+        if (null != child) {
+            Node result = match(child, path, end + 1, values, captured);
+            if (null != result) {
+                return result;
+            }
+        }
+
+        if (null != node.variable && captured < values.length) {
+            values[captured] = path.substring(start, end);
+            return match(node.variable, path, end + 1, values, captured + 1);
+        }
+
+        return null;
+    }
+
+    private static int count(String path, char c) {
+        int count = 0;
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == c) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node variable;      // Child which is variable, like '{id}'
+        private RouteMeta meta;     // Not null if there is route end at here.
+        private String[] names;     // Names of variables in route.
+        private int[] types;        // Type code of variables, same order as names.
+    }
+
+    /**
+     * Result of matching.
+     */
+    static final class Matched {
+        final RouteMeta meta;
+        final String[] names;
+        final int[] types;
+        final String[] values;
+
+        private Matched(Node node, String[] values) {
+            this.meta = node.meta;
+            this.names = node.names;
+            this.types = node.types;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Radix tree of loaded routes, support longest prefix match and prefix enumeration.
+ * The label of node is a range of path, so the paths with same prefix share the storage.
+ * Keyed by the path in atlas, same as Warehouse.routes, the path of meta generated by arouter-compiler is in lower case.
+ * 已加载路由的基数树，节点只记录路径的区间，不复制字符串
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 18:05
+ */
+final class RouteIndex {
+    private final Node root = new Node(null, 0, 0);
+    private int size;
+
+    /**
+     * Add route, the latter covers the former which has same path.
+     *
+     * @param path path of route, the key of atlas
+     * @param meta meta of route
+     */
+    void put(String path, RouteMeta meta) {
+        if (null == path || path.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        int index = 0;
+        while (index < path.length()) {
+            int position = node.find(path.charAt(index));
+            if (position < 0) {     // No child start with this char, add leaf.
+                Node leaf = node.insert(-(position + 1), new Node(path, index, path.length()));
+                leaf.path = path;
+                leaf.meta = meta;
+                size++;
+                return;
+            }
+
+            Node child = node.children[position];
+            int length = child.end - child.start;
+            int common = 0;
+            while (common < length && index + common < path.length()
+                    && child.key.charAt(child.start + common) == path.charAt(index + common)) {
+                common++;
+            }
+
+            if (common < length) {  // Split the child at the end of common prefix.
+                Node middle = new Node(child.key, child.start, child.start + common);
+                child.start += common;
+                middle.insert(0, child);
+                node.children[position] = middle;
+                child = middle;
+            }
+
+            node = child;
+            index += common;
+        }
+
+        if (null == node.meta) {
+            size++;
+        }
+        node.path = path;
+        node.meta = meta;
+    }
+
+    /**
+     * Remove the route of path, the nodes are kept for the path may be added again.
+     *
+     * @param path path of route, the key of atlas
+     * @param meta meta of route, nothing happen if the route of path has been covered by another one.
+     */
+    void remove(String path, RouteMeta meta) {
+        if (null == path || path.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        int index = 0;
+        while (index < path.length()) {
+            int position = node.find(path.charAt(index));
+            if (position < 0) {
+                return;
+            }
+
+            Node child = node.children[position];
+            int length = child.end - child.start;
+            if (index + length > path.length() || !path.regionMatches(index, child.key, child.start, length)) {
+                return;
+            }
+
+            node = child;
+            index += length;
+        }
+
+        if (node.meta == meta) {
+            node.path = null;
+            node.meta = null;
+            size--;
+        }
+    }
+
+    /**
+     * Find the route which is the nearest parent of path, like '/settings/account' for '/settings/account/privacy'.
+     * Only matched at the boundary of words.
+     *
+     * @param path path
+     * @return meta of nearest parent, or itself, null if not found.
+     */
+    RouteMeta longestPrefix(String path) {
+        RouteMeta nearest = null;
+        Node node = root;
+        int index = 0;
+        while (true) {
+            if (null != node.meta && (index == path.length() || path.charAt(index) == '/' || path.charAt(index - 1) == '/')) {
+                nearest = node.meta;
+            }
+            if (index == path.length()) {
+                break;
+            }
+
+            int position = node.find(path.charAt(index));
+            if (position < 0) {
+                break;
+            }
+
+            Node child = node.children[position];
+            int length = child.end - child.start;
+            if (index + length > path.length() || !path.regionMatches(index, child.key, child.start, length)) {
+                break;
+            }
+
+            node = child;
+            index += length;
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Find the routes under prefix, like '/settings/account' and '/settings/about' for '/settings'.
+     *
+     * @param prefix prefix of path
+     * @return routes sorted by path, the route of prefix itself is included.
+     */
+    List<RouteMeta> prefix(String prefix) {
+        List<RouteMeta> result = new ArrayList<>();
+        Node node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            int position = node.find(prefix.charAt(index));
+            if (position < 0) {
+                return result;
+            }
+
+            Node child = node.children[position];
+            int length = Math.min(child.end - child.start, prefix.length() - index);
+            if (!prefix.regionMatches(index, child.key, child.start, length)) {
+                return result;
+            }
+
+            node = child;
+            index += length;
+        }
+
+        collect(node, prefix, result);
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static void collect(Node node, String prefix, List<RouteMeta> result) {
+        if (null != node.meta) {
+            String path = node.path;
+            // Only whole words, '/settingsx' is not under '/settings'
+            if (path.length() == prefix.length() || prefix.endsWith("/") || path.charAt(prefix.length()) == '/') {
+                result.add(node.meta);
+            }
+        }
+
+        for (int i = 0; i < node.count; i++) {
+            collect(node.children[i], prefix, result);
+        }
+    }
+
+    private static class Node {
+        private final String key;   // Path which the label comes from.
+        private int start;          // Label is key[start, end)
+        private final int end;
+        private Node[] children;    // Sorted by the first char of label.
+        private int count;
+        private String path;        // Path of route, not null if meta isn't null.
+        private RouteMeta meta;
+
+        Node(String key, int start, int end) {
+            this.key = key;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Binary search the child start with c.
+         *
+         * @return position of child, or (-(insertion point) - 1)
+         */
+        int find(char c) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].key.charAt(children[mid].start);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        Node insert(int position, Node child) {
+            if (null == children) {
+                children = new Node[2];
+            } else if (count == children.length) {
+                Node[] expanded = new Node[count * 2];
+                System.arraycopy(children, 0, expanded, 0, count);
+                children = expanded;
+            }
+
+            System.arraycopy(children, position, children, position + 1, count - position);
+            children[position] = child;
+            count++;
+            return child;
+        }
+    }
+}
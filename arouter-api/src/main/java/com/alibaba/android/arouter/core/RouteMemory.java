@@ -0,0 +1,187 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Accounting of loaded groups, in order of access. When the limit is set, the least recently used groups
+ * will be evicted until the estimated size is under limit, they are loaded again from their IRouteGroup on next access.
+ * The groups added dynamically are pinned, there's no class to load them again.
+ * Groups are named as the keys of groupsIndex, and routes by the keys of atlas, same as postcards,
+ * the path and group of meta are in lower case when generated by arouter-compiler.
+ * 已加载group的内存统计，按访问顺序排列，设置上限后按LRU淘汰group，下次访问时重新加载
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:00
+ */
+final class RouteMemory {
+    // Rough size of objects, compressed references.
+    private static final int META_BYTES = 72;           // RouteMeta with its fields
+    private static final int STRING_BYTES = 40;         // String and header of its array
+    private static final int MAP_ENTRY_BYTES = 36;      // Entry of HashMap and its slot
+    private static final int MAP_BYTES = 48;            // HashMap
+    private static final int INTEGER_BYTES = 16;
+
+    private final LinkedHashMap<String, LoadedGroup> groups = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, LoadedGroup> owners = new HashMap<>();    // Path of route -> group which loaded it last
+    private final Set<String> evicted = new HashSet<>();
+    private long limit;         // Bytes, 0 for unbounded.
+    private long bytes;
+    private int routes;
+    private long evictions;
+    private long reloads;
+
+    /**
+     * Routes of one group.
+     */
+    static final class LoadedGroup {
+        final String name;
+        final Class<? extends IRouteGroup> source;   // Null if it's added dynamically.
+        final Map<String, RouteMeta> routes = new HashMap<>();     // Key of atlas -> meta, only the ones not covered.
+        long bytes;
+        boolean pinned;
+
+        private LoadedGroup(String name, Class<? extends IRouteGroup> source) {
+            this.name = name;
+            this.source = source;
+        }
+    }
+
+    void setLimit(long limit) {
+        this.limit = Math.max(0, limit);
+    }
+
+    boolean isBounded() {
+        return limit > 0;
+    }
+
+    /**
+     * Record the loaded routes of group.
+     *
+     * @param name   name of group in groupsIndex
+     * @param source class of group, null if it's added dynamically, then the group is pinned.
+     * @param atlas  routes of group, by the path declared
+     */
+    void loaded(String name, Class<? extends IRouteGroup> source, Map<String, RouteMeta> atlas) {
+        LoadedGroup group = groups.get(name);
+        if (null == group) {
+            group = new LoadedGroup(name, source);
+            group.bytes = STRING_BYTES + name.length() * 2;     // Name of group, shared by routes.
+            bytes += group.bytes;
+            groups.put(name, group);
+            if (evicted.remove(name)) {
+                reloads++;
+            }
+        }
+
+        group.pinned |= null == source;
+        for (Map.Entry<String, RouteMeta> entry : atlas.entrySet()) {
+            String path = entry.getKey();
+            LoadedGroup owner = owners.put(path, group);
+            if (null != owner) {
+                // Covered by this group, or loaded again, the former meta is released.
+                release(owner, path);
+            }
+
+            long size = estimate(entry.getValue());
+            group.routes.put(path, entry.getValue());
+            group.bytes += size;
+            bytes += size;
+            routes++;
+        }
+    }
+
+    private void release(LoadedGroup group, String path) {
+        RouteMeta meta = group.routes.remove(path);
+        if (null != meta) {
+            long size = estimate(meta);
+            group.bytes -= size;
+            bytes -= size;
+            routes--;
+        }
+    }
+
+    /**
+     * Mark the group of route as recently used, only in bounded mode.
+     *
+     * @param path  path of postcard
+     * @param group group of postcard, for the templated route, whose path isn't recorded.
+     */
+    void touch(String path, String group) {
+        if (limit > 0) {
+            LoadedGroup owner = null == path ? null : owners.get(path);
+            groups.get(null == owner ? group : owner.name);
+        }
+    }
+
+    /**
+     * @param except the group which is being loaded
+     * @return the least recently used group which can be evicted, null if it's under limit.
+     */
+    String nextEviction(String except) {
+        if (limit <= 0 || bytes <= limit) {
+            return null;
+        }
+
+        for (Map.Entry<String, LoadedGroup> entry : groups.entrySet()) {
+            LoadedGroup group = entry.getValue();
+            if (!group.pinned && null != group.source && !entry.getKey().equals(except)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    LoadedGroup evict(String name) {
+        LoadedGroup group = groups.remove(name);
+        if (null != group) {
+            for (String path : group.routes.keySet()) {
+                owners.remove(path);    // The covered routes have been released from group.
+            }
+            bytes -= group.bytes;
+            routes -= group.routes.size();
+            evictions++;
+            evicted.add(name);
+        }
+        return group;
+    }
+
+    void clear() {
+        groups.clear();
+        owners.clear();
+        evicted.clear();
+        bytes = 0;
+        routes = 0;
+    }
+
+    RouteMemoryStats stats() {
+        return new RouteMemoryStats(groups.size(), routes, bytes, limit, evictions, reloads);
+    }
+
+    /**
+     * Rough size of route meta, the strings which are shared with other routes are not counted.
+     */
+    static long estimate(RouteMeta meta) {
+        long size = META_BYTES + MAP_ENTRY_BYTES;
+        String path = meta.getPath();
+        if (null != path) {
+            size += STRING_BYTES + path.length() * 2;
+        }
+
+        Map<String, Integer> paramsType = meta.getParamsType();
+        if (null != paramsType) {
+            size += MAP_BYTES;
+            for (String name : paramsType.keySet()) {
+                size += MAP_ENTRY_BYTES + STRING_BYTES + name.length() * 2 + INTEGER_BYTES;
+            }
+        }
+        return size;
+    }
+}
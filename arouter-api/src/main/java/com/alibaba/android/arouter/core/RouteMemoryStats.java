@@ -0,0 +1,69 @@
+package com.alibaba.android.arouter.core;
+
+/**
+ * Estimated memory of loaded routes, and the eviction of groups in memory-bounded mode.
+ * 已加载路由的内存估算，以及限制内存时group的淘汰情况
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:00
+ */
+public final class RouteMemoryStats {
+    private final int loadedGroups;
+    private final int loadedRoutes;
+    private final long estimatedBytes;
+    private final long limitBytes;
+    private final long evictions;
+    private final long reloads;
+
+    RouteMemoryStats(int loadedGroups, int loadedRoutes, long estimatedBytes, long limitBytes, long evictions, long reloads) {
+        this.loadedGroups = loadedGroups;
+        this.loadedRoutes = loadedRoutes;
+        this.estimatedBytes = estimatedBytes;
+        this.limitBytes = limitBytes;
+        this.evictions = evictions;
+        this.reloads = reloads;
+    }
+
+    public int getLoadedGroups() {
+        return loadedGroups;
+    }
+
+    public int getLoadedRoutes() {
+        return loadedRoutes;
+    }
+
+    /**
+     * Rough size of loaded routes, include the route metas, their params and the entries of map.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * @return 0 if it's unbounded.
+     */
+    public long getLimitBytes() {
+        return limitBytes;
+    }
+
+    /**
+     * Count of groups evicted.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Count of evicted groups which are loaded again.
+     */
+    public long getReloads() {
+        return reloads;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteMemoryStats{groups=" + loadedGroups + ", routes=" + loadedRoutes + ", bytes=" + estimatedBytes
+                + ", limit=" + limitBytes + ", evictions=" + evictions + ", reloads=" + reloads + "}";
+    }
+}
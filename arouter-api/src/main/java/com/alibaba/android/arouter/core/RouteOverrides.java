@@ -0,0 +1,217 @@
+package com.alibaba.android.arouter.core;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Overrides of routes from remote config, without a release: replace the path, disable it, or degrade it to another path when it's lost.
+ * Immutable hash index by path, looked up once per build. It's stored in a compact binary file:
+ * <pre>
+ * int    magic 'AROV'
+ * byte   format version, 1
+ * long   version of config
+ * int    count of entries
+ * entry: utf path, byte flags(1 replace, 2 disabled, 4 degrade), [utf replacement], [utf degrade]
+ * </pre>
+ * 远程配置的路由覆盖规则：替换路径、禁用、丢失时降级到指定路径，以path为key的不可变哈希索引
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:50
+ */
+public final class RouteOverrides {
+    private static final int MAGIC = 0x41524F56;    // 'AROV'
+    private static final byte FORMAT_VERSION = 1;
+    private static final int FLAG_REPLACE = 1;
+    private static final int FLAG_DISABLED = 1 << 1;
+    private static final int FLAG_DEGRADE = 1 << 2;
+
+    /**
+     * Nothing overridden.
+     */
+    public static final RouteOverrides EMPTY = new RouteOverrides(0, Collections.<String, Entry>emptyMap());
+
+    private final long version;
+    private final Map<String, Entry> entries;
+
+    private RouteOverrides(long version, Map<String, Entry> entries) {
+        this.version = version;
+        this.entries = entries;
+    }
+
+    /**
+     * Version of config, set by the one who writes the file.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return override of path, null if it's not overridden.
+     */
+    public Entry get(String path) {
+        return null == path ? null : entries.get(path);
+    }
+
+    /**
+     * Read the overrides written by writeTo, the stream is not closed.
+     *
+     * @throws IOException the stream is broken or not the override file
+     */
+    public static RouteOverrides read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(input);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("It's not a route override file.");
+        }
+
+        byte format = data.readByte();
+        if (format != FORMAT_VERSION) {
+            throw new IOException("Unknown format version of route override file [" + format + "]");
+        }
+
+        Builder builder = newBuilder().version(data.readLong());
+        int count = data.readInt();
+        for (int i = 0; i < count; i++) {
+            String path = data.readUTF();
+            int flags = data.readByte();
+            builder.put(path,
+                    (flags & FLAG_REPLACE) != 0 ? data.readUTF() : null,
+                    (flags & FLAG_DISABLED) != 0,
+                    (flags & FLAG_DEGRADE) != 0 ? data.readUTF() : null);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Write the overrides, the stream is flushed but not closed.
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeLong(version);
+        data.writeInt(entries.size());
+        for (Entry entry : entries.values()) {
+            int flags = (null != entry.replacement ? FLAG_REPLACE : 0)
+                    | (entry.disabled ? FLAG_DISABLED : 0)
+                    | (null != entry.degrade ? FLAG_DEGRADE : 0);
+            data.writeUTF(entry.path);
+            data.writeByte(flags);
+            if (null != entry.replacement) {
+                data.writeUTF(entry.replacement);
+            }
+            if (null != entry.degrade) {
+                data.writeUTF(entry.degrade);
+            }
+        }
+        data.flush();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "RouteOverrides{version=" + version + ", entries=" + entries.size() + "}";
+    }
+
+    /**
+     * Override of one path.
+     */
+    public static final class Entry {
+        private final String path;
+        private final String replacement;
+        private final boolean disabled;
+        private final String degrade;
+
+        private Entry(String path, String replacement, boolean disabled, String degrade) {
+            this.path = path;
+            this.replacement = replacement;
+            this.disabled = disabled;
+            this.degrade = degrade;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return path used instead when building postcard, null if it's not replaced.
+         */
+        public String getReplacement() {
+            return replacement;
+        }
+
+        /**
+         * @return true if the navigation of path should be treated as lost.
+         */
+        public boolean isDisabled() {
+            return disabled;
+        }
+
+        /**
+         * @return path to navigate when this one is lost or disabled, null to use the callback or DegradeService.
+         */
+        public String getDegrade() {
+            return degrade;
+        }
+    }
+
+    /**
+     * Builder of overrides, the latter covers the former which has same path.
+     */
+    public static final class Builder {
+        private final Map<String, Entry> entries = new HashMap<>();
+        private long version;
+
+        private Builder() {
+        }
+
+        public Builder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder replace(String path, String replacement) {
+            return put(path, replacement, false, null);
+        }
+
+        public Builder disable(String path) {
+            return put(path, null, true, null);
+        }
+
+        public Builder disable(String path, String degrade) {
+            return put(path, null, true, degrade);
+        }
+
+        public Builder degrade(String path, String degrade) {
+            return put(path, null, false, degrade);
+        }
+
+        Builder put(String path, String replacement, boolean disabled, String degrade) {
+            if (null == path || !path.startsWith("/")) {
+                throw new IllegalArgumentException("Path of override should start with '/', but it's [" + path + "]");
+            }
+            if ((null != replacement && !replacement.startsWith("/")) || (null != degrade && !degrade.startsWith("/"))) {
+                throw new IllegalArgumentException("Target of override [" + path + "] should start with '/'");
+            }
+            entries.put(path, new Entry(path, replacement, disabled, degrade));
+            return this;
+        }
+
+        public RouteOverrides build() {
+            return new RouteOverrides(version, Collections.unmodifiableMap(new HashMap<>(entries)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.template.ILeveledLogger;
+import com.alibaba.android.arouter.utils.LogUtils;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import static com.alibaba.android.arouter.launcher.ARouter.logger;
+import static com.alibaba.android.arouter.utils.Consts.TAG;
+
+/**
+ * Load the override file in a background thread, and reload it when its size or modified time changed.
+ * The overrides are cleared when the file is deleted, and kept when the file is broken.
+ * Write a temp file then rename it, the watcher never reads half of file.
+ * 在后台线程加载路由覆盖文件，文件变化时重新加载
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:50
+ */
+public final class RouteOverridesWatcher {
+    private final File file;
+    private final long checkIntervalMillis;
+    private final RouterEngine engine;
+    private Timer timer;                    // Null if it's stopped.
+    private volatile int checks;            // Count of finished checks.
+
+    // Only accessed in the thread of timer.
+    private long lastModified = -1;
+    private long lastLength = -1;
+
+    /**
+     * @param file                override file, written by RouteOverrides.writeTo
+     * @param checkIntervalMillis interval of checking file change, 0 to load once.
+     * @param engine              engine which the overrides are set into
+     */
+    public RouteOverridesWatcher(File file, long checkIntervalMillis, RouterEngine engine) {
+        this.file = file;
+        this.checkIntervalMillis = checkIntervalMillis;
+        this.engine = engine;
+    }
+
+    public synchronized void start() {
+        if (null != timer) {
+            return;
+        }
+
+        final Timer owner = new Timer("ARouter route overrides", true);
+        timer = owner;
+        TimerTask check = new TimerTask() {
+            @Override
+            public void run() {
+                try {
+                    check(owner);
+                } finally {
+                    checks++;
+                }
+            }
+        };
+        if (checkIntervalMillis > 0) {
+            timer.schedule(check, 0, checkIntervalMillis);
+        } else {
+            timer.schedule(check, 0);
+        }
+    }
+
+    /**
+     * Stop watching, the loaded overrides are kept.
+     * The check which is running when stopped won't set its overrides, so they can be cleared after stop.
+     */
+    public synchronized void stop() {
+        if (null != timer) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    int getCheckCount() {
+        return checks;
+    }
+
+    /**
+     * Set the overrides, unless the timer of check has been stopped.
+     *
+     * @return false if it's stopped.
+     */
+    private synchronized boolean publish(Timer owner, RouteOverrides overrides) {
+        if (timer != owner) {
+            return false;
+        }
+
+        engine.setRouteOverrides(overrides);
+        return true;
+    }
+
+    private void check(Timer owner) {
+        long modified = file.lastModified();    // 0 if the file doesn't exist.
+        long length = file.length();
+        if (modified == lastModified && length == lastLength) {
+            return;
+        }
+
+        if (!file.isFile()) {
+            if (!publish(owner, RouteOverrides.EMPTY)) {
+                return;
+            }
+            lastModified = modified;
+            lastLength = length;
+            LogUtils.info(TAG, "Route override file [%s] doesn't exist, overrides cleared.", file);
+            return;
+        }
+
+        // Remember the stamps only after the file read, a file being written may fail now and be complete next time.
+        try {
+            InputStream input = new BufferedInputStream(new FileInputStream(file));
+            try {
+                RouteOverrides overrides = RouteOverrides.read(input);
+                if (!publish(owner, overrides)) {
+                    return;
+                }
+                lastModified = modified;
+                lastLength = length;
+                LogUtils.info(TAG, "Route overrides loaded, %s", overrides);
+            } finally {
+                input.close();
+            }
+        } catch (Exception e) {
+            // The logger may not be set if ARouter isn't initialized, the exception would stop the timer.
+            if (LogUtils.isLoggable(ILeveledLogger.ERROR)) {
+                logger.error(TAG, "Load route override file [" + file + "] failed, keep the last one.", e);
+            }
+        }
+    }
+}
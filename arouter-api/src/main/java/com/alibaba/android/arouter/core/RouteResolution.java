@@ -0,0 +1,100 @@
+package com.alibaba.android.arouter.core;
+
+import java.util.Locale;
+
+/**
+ * Result of route resolution, used instead of exceptions on the navigation path.
+ * A missed route is a normal outcome, it should not pay for a stack trace,
+ * nor the message, which is formatted on first access.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 10:21
+ */
+public final class RouteResolution {
+    public static final int FOUND = 0;      // Postcard has been completed.
+    public static final int MISSING = 1;    // No route matched the postcard.
+    public static final int ERROR = 2;      // Route matched, but something wrong when load group or provider.
+
+    // Shared instance, found result carries nothing.
+    static final RouteResolution SUCCESS = new RouteResolution(FOUND, null, false, null, null, null);
+
+    private final int state;
+    private final String format;
+    private final boolean hasArgs;
+    private final Object arg0;
+    private final Object arg1;
+    private final Throwable cause;
+    private String message;
+
+    private RouteResolution(int state, String format, boolean hasArgs, Object arg0, Object arg1, Throwable cause) {
+        this.state = state;
+        this.format = format;
+        this.hasArgs = hasArgs;
+        this.arg0 = arg0;
+        this.arg1 = arg1;
+        this.cause = cause;
+    }
+
+    static RouteResolution found() {
+        return SUCCESS;
+    }
+
+    static RouteResolution missing(String message) {
+        return new RouteResolution(MISSING, message, false, null, null, null);
+    }
+
+    /**
+     * @param format format of message, same as String.format, formatted on first access.
+     */
+    static RouteResolution missing(String format, Object arg0) {
+        return new RouteResolution(MISSING, format, true, arg0, null, null);
+    }
+
+    static RouteResolution missing(String format, Object arg0, Object arg1) {
+        return new RouteResolution(MISSING, format, true, arg0, arg1, null);
+    }
+
+    static RouteResolution error(String message, Throwable cause) {
+        return new RouteResolution(ERROR, message, false, null, null, cause);
+    }
+
+    static RouteResolution error(String format, Object arg0, Throwable cause) {
+        return new RouteResolution(ERROR, format, true, arg0, null, cause);
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public boolean isFound() {
+        return FOUND == state;
+    }
+
+    public boolean isMissing() {
+        return MISSING == state;
+    }
+
+    public boolean isError() {
+        return ERROR == state;
+    }
+
+    public String getMessage() {
+        if (null == message && null != format) {
+            message = hasArgs ? String.format(Locale.ENGLISH, format, arg0, arg1) : format;
+        }
+        return message;
+    }
+
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteResolution{" +
+                "state=" + state +
+                ", message='" + getMessage() + '\'' +
+                '}';
+    }
+}
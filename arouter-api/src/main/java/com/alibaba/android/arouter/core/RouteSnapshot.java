@@ -0,0 +1,176 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable and versioned routes which cover the routes loaded from groups, like server-driven re-routing for A/B tests.
+ * Build the next snapshot in any thread, then publish it by RouterEngine.publishRoutes, which is a single swap of reference,
+ * navigations never wait for the update. The previous versions are kept for rollback.
+ * 不可变的、带版本号的路由快照，优先于group中加载的路由。在任意线程构建新快照，通过一次引用替换发布，支持回滚
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:40
+ */
+public final class RouteSnapshot {
+    /**
+     * Count of previous versions kept for rollback.
+     */
+    static final int MAX_HISTORY = 3;
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    /**
+     * Version 0, nothing covered.
+     */
+    public static final RouteSnapshot EMPTY = new RouteSnapshot(0, Collections.<String, RouteMeta>emptyMap(), null, null);
+
+    private final long version;
+    private final Map<String, RouteMeta> routes;
+    private final PathMatcher matcher;      // Templated routes, null if there's none, never changed after built.
+    private final RouteSnapshot previous;
+
+    private RouteSnapshot(long version, Map<String, RouteMeta> routes, PathMatcher matcher, RouteSnapshot previous) {
+        this.version = version;
+        this.routes = routes;
+        this.matcher = matcher;
+        this.previous = previous;
+    }
+
+    /**
+     * Unique in process, increase with building.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the version replaced by this one, null if there's no more history.
+     */
+    public RouteSnapshot getPrevious() {
+        return previous;
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * @return unmodifiable routes, path as key.
+     */
+    public Map<String, RouteMeta> getRoutes() {
+        return routes;
+    }
+
+    public RouteMeta get(String path) {
+        return routes.get(path);
+    }
+
+    /**
+     * Path is unique in snapshot, so the templated routes are matched without group,
+     * the group of meta is in lower case when it's generated by arouter-compiler.
+     */
+    PathMatcher.Matched match(String path) {
+        return null == matcher ? null : matcher.match(path);
+    }
+
+    /**
+     * Start the next version from the routes of this one.
+     */
+    public Builder newBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Same version and routes, but only keep depth of history.
+     */
+    private RouteSnapshot trim(int depth) {
+        RouteSnapshot trimmedPrevious = (depth <= 0 || null == previous) ? null : previous.trim(depth - 1);
+        return trimmedPrevious == previous ? this : new RouteSnapshot(version, routes, matcher, trimmedPrevious);
+    }
+
+    @Override
+    public String toString() {
+        return "RouteSnapshot{version=" + version + ", routes=" + routes.size() + "}";
+    }
+
+    /**
+     * Builder of next version, not thread safe.
+     */
+    public static final class Builder {
+        private final RouteSnapshot base;
+        private final Map<String, RouteMeta> routes;
+
+        private Builder(RouteSnapshot base) {
+            this.base = base;
+            this.routes = new HashMap<>(base.routes);
+        }
+
+        /**
+         * Add route, it covers the route of same path.
+         */
+        public Builder add(RouteMeta meta) {
+            return put(null == meta ? null : meta.getPath(), meta);
+        }
+
+        /**
+         * Add all routes of group, like the one generated by arouter-compiler.
+         * The key of atlas is the path as declared, while the path of meta is in lower case, add them by the key.
+         */
+        public Builder addGroup(IRouteGroup group) {
+            Map<String, RouteMeta> atlas = new HashMap<>();
+            group.loadInto(atlas);
+            for (Map.Entry<String, RouteMeta> entry : atlas.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        private Builder put(String path, RouteMeta meta) {
+            if (null == path || null == meta || null == meta.getGroup()) {
+                throw new IllegalArgumentException("Route of snapshot should have path and group, but it's " + meta);
+            }
+            routes.put(path, meta);
+            return this;
+        }
+
+        /**
+         * Remove the route of path from snapshot, the one loaded from group works again.
+         */
+        public Builder remove(String path) {
+            routes.remove(path);
+            return this;
+        }
+
+        public Builder clear() {
+            routes.clear();
+            return this;
+        }
+
+        /**
+         * Build the next version, publish it by RouterEngine.publishRoutes.
+         */
+        public RouteSnapshot build() {
+            PathMatcher matcher = null;
+            for (Map.Entry<String, RouteMeta> entry : routes.entrySet()) {
+                if (PathMatcher.isTemplate(entry.getKey())) {
+                    if (null == matcher) {
+                        matcher = new PathMatcher();
+                    }
+                    matcher.add(entry.getKey(), entry.getValue());
+                }
+            }
+
+            return new RouteSnapshot(VERSIONS.incrementAndGet(),
+                    Collections.unmodifiableMap(new HashMap<>(routes)),
+                    matcher,
+                    base.trim(MAX_HISTORY - 1));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.alibaba.android.arouter.core;
+
+import android.content.Context;
+
+import com.alibaba.android.arouter.exception.HandlerException;
+import com.alibaba.android.arouter.exception.NoRouteFoundException;
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.callback.InterceptorCallback;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IInterceptorGroup;
+import com.alibaba.android.arouter.facade.template.IProviderGroup;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.facade.template.IRouteRoot;
+import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
+import com.alibaba.android.arouter.utils.Consts;
+import com.alibaba.android.arouter.utils.LogUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Instance of router core, owns the route table, provider registry, interceptor chain and executor.
+ * ARouter and LogisticsCenter work on the default engine, create new engine for isolated tests, sub routers
+ * or benchmarks side by side, the engines share nothing but the uri cache of default one.
+ * 路由核心的实例，持有独立的路由表、服务、拦截器以及线程池，ARouter使用默认实例
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:30
+ */
+public final class RouterEngine {
+    private static final RouterEngine DEFAULT = new RouterEngine(DefaultPoolExecutor.getInstance());
+
+    final Warehouse warehouse = new Warehouse();
+    final InterceptorChain interceptorChain = new InterceptorChain(this);
+    volatile ThreadPoolExecutor executor;
+    volatile Context context;
+    volatile StartupReport startupReport;
+    private final AtomicReference<RouteSnapshot> routeSnapshot = new AtomicReference<>(RouteSnapshot.EMPTY);
+    private volatile RouteOverrides routeOverrides = RouteOverrides.EMPTY;
+
+    /**
+     * @param executor executor of interceptors
+     */
+    public RouterEngine(ThreadPoolExecutor executor) {
+        if (null == executor) {
+            throw new IllegalArgumentException("Executor of RouterEngine can't be null!");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * The engine used by ARouter.
+     */
+    public static RouterEngine getDefault() {
+        return DEFAULT;
+    }
+
+    boolean isDefault() {
+        return this == DEFAULT;
+    }
+
+    /**
+     * Load the router map generated by arouter-compiler, then instantiate interceptors in background.
+     *
+     * @param context context for providers and interceptors, nullable in jvm.
+     */
+    public void init(Context context) throws HandlerException {
+        load(context);
+        initInterceptors();
+    }
+
+    synchronized void load(Context context) throws HandlerException {
+        LogisticsCenter.init(this, context);
+    }
+
+    /**
+     * Instantiate interceptors in background, only the first call works until engine cleared.
+     */
+    public void initInterceptors() {
+        interceptorChain.init();
+    }
+
+    /**
+     * Add groups by hand, for the engine which isn't loaded from router map.
+     */
+    public synchronized void addRouteRoot(IRouteRoot routeRoot) {
+        routeRoot.loadInto(warehouse.groupsIndex);
+    }
+
+    public synchronized void addProviderGroup(IProviderGroup providerGroup) {
+        providerGroup.loadInto(warehouse.providersIndex);
+    }
+
+    /**
+     * Interceptors added after initInterceptors won't be instantiated.
+     */
+    public synchronized void addInterceptorGroup(IInterceptorGroup interceptorGroup) {
+        interceptorGroup.loadInto(warehouse.interceptorsIndex);
+    }
+
+    /**
+     * Load the group in index first, then cover it by the group, if the group isn't null.
+     */
+    public synchronized void addRouteGroupDynamic(String groupName, IRouteGroup group) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        LogisticsCenter.addRouteGroupDynamic(this, groupName, group);
+    }
+
+    public synchronized RouteResolution resolve(Postcard postcard) {
+        return LogisticsCenter.resolve(this, postcard);
+    }
+
+    /**
+     * Same as resolve, but throw exceptions when route missing or error.
+     */
+    public void completion(Postcard postcard) {
+        RouteResolution resolution = resolve(postcard);
+        if (resolution.isMissing()) {
+            throw new NoRouteFoundException(resolution.getMessage());
+        } else if (resolution.isError()) {
+            throw new HandlerException(resolution.getMessage());
+        }
+    }
+
+    public synchronized Postcard buildProvider(String serviceName) {
+        return LogisticsCenter.buildProvider(this, serviceName);
+    }
+
+    /**
+     * Find the provider by its class, or the simple name for old compiler sdk.
+     *
+     * @return instance of provider, null if not found.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T navigation(Class<? extends T> service) {
+        Postcard postcard = buildProvider(service.getName());
+        if (null == postcard) {
+            postcard = buildProvider(service.getSimpleName());
+        }
+
+        if (null == postcard) {
+            LogUtils.warning(Consts.TAG, "There is no provider of [%s]!", service.getName());
+            return null;
+        }
+
+        postcard.setContext(context);
+        RouteResolution resolution = resolve(postcard);
+        if (resolution.isMissing()) {
+            LogUtils.warning(Consts.TAG, "%s", resolution.getMessage());
+            return null;
+        } else if (resolution.isError()) {
+            throw new HandlerException(resolution.getMessage());
+        }
+
+        return (T) postcard.getProvider();
+    }
+
+    /**
+     * Run interceptors of this engine, wait for initialization of interceptors if it's not finished.
+     */
+    public void doInterceptions(Postcard postcard, InterceptorCallback callback) {
+        interceptorChain.doInterceptions(postcard, callback);
+    }
+
+    /**
+     * Routes published by publishRoutes, which cover the routes loaded from groups.
+     */
+    public RouteSnapshot getRouteSnapshot() {
+        return routeSnapshot.get();
+    }
+
+    /**
+     * Publish the snapshot built from current one by a single swap of reference.
+     * It fails if another snapshot has been published or rolled back since it was built, rebuild it from the new one.
+     *
+     * @param snapshot built by getRouteSnapshot().newBuilder()
+     * @return true if published
+     */
+    public boolean publishRoutes(RouteSnapshot snapshot) {
+        RouteSnapshot current = routeSnapshot.get();
+        RouteSnapshot base = snapshot.getPrevious();
+        if (null == base || base.getVersion() != current.getVersion() || !routeSnapshot.compareAndSet(current, snapshot)) {
+            return false;
+        }
+
+        routesChanged();
+        return true;
+    }
+
+    /**
+     * Rollback to the previous version of snapshot.
+     *
+     * @return false if there's no more history.
+     */
+    public boolean rollbackRoutes() {
+        while (true) {
+            RouteSnapshot current = routeSnapshot.get();
+            RouteSnapshot previous = current.getPrevious();
+            if (null == previous) {
+                return false;
+            }
+
+            if (routeSnapshot.compareAndSet(current, previous)) {
+                routesChanged();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Overrides of remote config, the disabled route is resolved as missing.
+     */
+    public RouteOverrides getRouteOverrides() {
+        return routeOverrides;
+    }
+
+    public void setRouteOverrides(RouteOverrides overrides) {
+        routeOverrides = null == overrides ? RouteOverrides.EMPTY : overrides;
+        routesChanged();
+    }
+
+    private void routesChanged() {
+        if (isDefault()) {
+            UriCache.invalidate();
+        }
+    }
+
+    /**
+     * Bound the memory of loaded routes, the least recently used groups will be evicted when the limit exceeded,
+     * and loaded again from their IRouteGroup on next access. The groups added dynamically are never evicted.
+     *
+     * @param maxBytes limit of estimated bytes, 0 for unbounded.
+     */
+    public synchronized void setRouteMemoryLimit(long maxBytes) {
+        warehouse.memory.setLimit(maxBytes);
+        LogisticsCenter.evictGroups(this, null);
+    }
+
+    public synchronized RouteMemoryStats getRouteMemoryStats() {
+        return warehouse.memory.stats();
+    }
+
+    public synchronized void openRouteIndex() {
+        LogisticsCenter.openRouteIndex(warehouse);
+    }
+
+    public synchronized List<RouteMeta> findRoutes(String prefix) {
+        return LogisticsCenter.findRoutes(warehouse, prefix);
+    }
+
+    public synchronized RouteMeta findNearestRoute(String path) {
+        return LogisticsCenter.findNearestRoute(warehouse, path);
+    }
+
+    /**
+     * @return report of last init, null if it's not initialized.
+     */
+    public StartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Clear all of routes, providers and interceptors.
+     */
+    public synchronized void clear() {
+        warehouse.clear();
+        interceptorChain.reset();
+        routeSnapshot.set(RouteSnapshot.EMPTY);
+        routesChanged();
+    }
+}
@@ -0,0 +1,242 @@
+package com.alibaba.android.arouter.core;
+
+import android.os.Build;
+import android.os.SystemClock;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cost of phases in LogisticsCenter.init, and the initialization of interceptors which runs in background.
+ * 启动耗时报告，记录LogisticsCenter.init中各阶段的耗时
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:05
+ */
+public final class StartupReport {
+    private boolean registerByPlugin;
+    private long totalNanos;
+    private long isNewVersionNanos;
+    private long spReadNanos;
+    private long spWriteNanos;
+    private long scanNanos;
+    private final List<DexScan> dexScans = new ArrayList<>();
+    private final List<ClassLoad> classLoads = new ArrayList<>();
+    private volatile long interceptorInitNanos = -1;
+    private volatile int interceptorCount;
+
+    StartupReport() {
+    }
+
+    /**
+     * elapsedRealtimeNanos is not affected by deep sleep, but it's API 17+.
+     */
+    public static long now() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1 ? SystemClock.elapsedRealtimeNanos() : System.nanoTime();
+    }
+
+    /**
+     * Called by ClassUtils, dex files are scanned in parallel.
+     */
+    public synchronized void recordDexScan(String path, long costNanos, int classCount) {
+        dexScans.add(new DexScan(path, costNanos, classCount));
+    }
+
+    void recordClassLoad(String className, long reflectNanos, long loadIntoNanos) {
+        classLoads.add(new ClassLoad(className, reflectNanos, loadIntoNanos));
+    }
+
+    void setRegisterByPlugin(boolean registerByPlugin) {
+        this.registerByPlugin = registerByPlugin;
+    }
+
+    void setTotalNanos(long totalNanos) {
+        this.totalNanos = totalNanos;
+    }
+
+    void setIsNewVersionNanos(long isNewVersionNanos) {
+        this.isNewVersionNanos = isNewVersionNanos;
+    }
+
+    void addSpReadNanos(long spReadNanos) {
+        this.spReadNanos += spReadNanos;
+    }
+
+    void addSpWriteNanos(long spWriteNanos) {
+        this.spWriteNanos += spWriteNanos;
+    }
+
+    void setScanNanos(long scanNanos) {
+        this.scanNanos = scanNanos;
+    }
+
+    void setInterceptorInit(long costNanos, int count) {
+        this.interceptorCount = count;
+        this.interceptorInitNanos = costNanos;
+    }
+
+    /**
+     * @return true if the router map was registered by arouter-auto-register plugin, false if scanned from dex.
+     */
+    public boolean isRegisterByPlugin() {
+        return registerByPlugin;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getIsNewVersionNanos() {
+        return isNewVersionNanos;
+    }
+
+    public long getSpReadNanos() {
+        return spReadNanos;
+    }
+
+    public long getSpWriteNanos() {
+        return spWriteNanos;
+    }
+
+    /**
+     * @return cost of scanning all dex files, 0 if router map was not scanned.
+     */
+    public long getScanNanos() {
+        return scanNanos;
+    }
+
+    public synchronized List<DexScan> getDexScans() {
+        return Collections.unmodifiableList(new ArrayList<>(dexScans));
+    }
+
+    public List<ClassLoad> getClassLoads() {
+        return Collections.unmodifiableList(classLoads);
+    }
+
+    /**
+     * @return cost of interceptors initialization, -1 if it's not finished or there's no interceptor.
+     */
+    public long getInterceptorInitNanos() {
+        return interceptorInitNanos;
+    }
+
+    public int getInterceptorCount() {
+        return interceptorCount;
+    }
+
+    /**
+     * Write the report as text, the file will be covered.
+     *
+     * @param file target file
+     */
+    public void writeTo(File file) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ARouter startup report\n");
+        sb.append("total: ").append(micros(totalNanos)).append("\n");
+        sb.append("registerByPlugin: ").append(registerByPlugin).append("\n");
+        sb.append("isNewVersion: ").append(micros(isNewVersionNanos)).append("\n");
+        sb.append("spRead: ").append(micros(spReadNanos)).append("\n");
+        sb.append("spWrite: ").append(micros(spWriteNanos)).append("\n");
+        sb.append("scan: ").append(micros(scanNanos)).append("\n");
+        for (DexScan dexScan : getDexScans()) {
+            sb.append("  ").append(dexScan).append("\n");
+        }
+        sb.append("classes: ").append(classLoads.size()).append("\n");
+        for (ClassLoad classLoad : classLoads) {
+            sb.append("  ").append(classLoad).append("\n");
+        }
+        sb.append("interceptors: ").append(interceptorCount).append(", ")
+                .append(interceptorInitNanos < 0 ? "not finished" : micros(interceptorInitNanos)).append("\n");
+        return sb.toString();
+    }
+
+    private static String micros(long nanos) {
+        return nanos / 1000 + "us";
+    }
+
+    /**
+     * Cost of scanning one dex file.
+     */
+    public static final class DexScan {
+        private final String path;
+        private final long costNanos;
+        private final int classCount;
+
+        DexScan(String path, long costNanos, int classCount) {
+            this.path = path;
+            this.costNanos = costNanos;
+            this.classCount = classCount;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public long getCostNanos() {
+            return costNanos;
+        }
+
+        /**
+         * @return count of classes matched in this dex.
+         */
+        public int getClassCount() {
+            return classCount;
+        }
+
+        @Override
+        public String toString() {
+            return path + ", " + classCount + " classes, " + micros(costNanos);
+        }
+    }
+
+    /**
+     * Cost of one generated class, like ARouter$$Root$$app.
+     */
+    public static final class ClassLoad {
+        private final String className;
+        private final long reflectNanos;
+        private final long loadIntoNanos;
+
+        ClassLoad(String className, long reflectNanos, long loadIntoNanos) {
+            this.className = className;
+            this.reflectNanos = reflectNanos;
+            this.loadIntoNanos = loadIntoNanos;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return cost of Class.forName and newInstance
+         */
+        public long getReflectNanos() {
+            return reflectNanos;
+        }
+
+        public long getLoadIntoNanos() {
+            return loadIntoNanos;
+        }
+
+        @Override
+        public String toString() {
+            return className + ", reflect " + micros(reflectNanos) + ", loadInto " + micros(loadIntoNanos);
+        }
+    }
+}
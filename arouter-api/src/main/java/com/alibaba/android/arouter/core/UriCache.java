@@ -0,0 +1,151 @@
+package com.alibaba.android.arouter.core;
+
+import android.net.Uri;
+import android.os.Bundle;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of deep link, raw uri as key.
+ * Keep the uri replaced by PathReplaceService, the matched route and the params parsed from uri,
+ * then the same uri needn't be replaced, matched and parsed again.
+ * Every invalidation starts a new generation, the result computed in the former one is dropped when put,
+ * so a navigation which reads the routes before they change can't cache the stale route after invalidated.
+ * 深链解析结果的LRU缓存，路由表发生变化时清空
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 18:50
+ */
+public final class UriCache {
+    private static volatile Map<String, CachedUri> entries;     // Null if it's not open.
+    private static int generation;                              // Guarded by the lock of class.
+
+    private UriCache() {
+    }
+
+    /**
+     * Open the cache.
+     *
+     * @param maxSize max count of uri
+     */
+    public static synchronized void open(final int maxSize) {
+        if (maxSize <= 0) {
+            entries = null;
+            return;
+        }
+
+        entries = new LinkedHashMap<String, CachedUri>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUri> eldest) {
+                return size() > maxSize;
+            }
+        };
+        generation++;
+    }
+
+    public static boolean isOpen() {
+        return null != entries;
+    }
+
+    /**
+     * Routes has been changed, clear all.
+     */
+    public static synchronized void invalidate() {
+        generation++;
+        if (null != entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Take it before reading the routes and overrides, then put the result with it.
+     *
+     * @return current generation
+     */
+    public static synchronized int generation() {
+        return generation;
+    }
+
+    /**
+     * @param uri uri string
+     * @return cached entry, null if not found or not open.
+     */
+    public static synchronized CachedUri get(String uri) {
+        return null == entries ? null : entries.get(uri);
+    }
+
+    /**
+     * Cache the uri replaced by PathReplaceService and its group.
+     *
+     * @param uri        raw uri string
+     * @param target     replaced uri
+     * @param group      group of replaced uri
+     * @param generation taken before the overrides read, the target is dropped if it's changed.
+     */
+    public static synchronized void putTarget(String uri, Uri target, String group, int generation) {
+        CachedUri entry = obtain(uri, generation);
+        if (null != entry) {
+            entry.target = target;
+            entry.group = group;
+        }
+    }
+
+    /**
+     * Cache the route and params of uri.
+     *
+     * @param uri        uri string, after replaced
+     * @param meta       matched route
+     * @param params     params parsed from uri, include the values captured from templated path.
+     * @param generation taken before the routes read, the route is dropped if it's changed.
+     */
+    static synchronized void putResolved(String uri, RouteMeta meta, Bundle params, int generation) {
+        CachedUri entry = obtain(uri, generation);
+        if (null != entry) {
+            entry.meta = meta;
+            entry.params = params;
+        }
+    }
+
+    private static CachedUri obtain(String uri, int generation) {
+        if (null == entries || generation != UriCache.generation) {
+            return null;
+        }
+
+        CachedUri entry = entries.get(uri);
+        if (null == entry) {
+            entry = new CachedUri();
+            entries.put(uri, entry);
+        }
+        return entry;
+    }
+
+    public static final class CachedUri {
+        private Uri target;
+        private String group;
+        private RouteMeta meta;
+        private Bundle params;
+
+        /**
+         * @return uri replaced by PathReplaceService, null if it's not cached.
+         */
+        public Uri getTarget() {
+            return target;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        RouteMeta getMeta() {
+            return meta;
+        }
+
+        Bundle getParams() {
+            return params;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import java.util.Map;
 
 /**
  * Storage of route meta and other data.
+ * Every RouterEngine owns one, it's guarded by the lock of its engine.
+ * 每个RouterEngine持有独立的Warehouse，由engine的锁保护
  *
  * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
  * @version 1.0
@@ -24,46 +26,68 @@ class Warehouse {
      * 以groupName为key，IRouteGroup为value
      * 初始化时传给ARouter$$Root$${moduleName}.loadInto(Map<String, Class<? extends IRouteGroup>> routes)
      */
-    static Map<String, Class<? extends IRouteGroup>> groupsIndex = new HashMap<>();
+    final Map<String, Class<? extends IRouteGroup>> groupsIndex = new HashMap<>();
 
     /**
      * 以path为key，Activity/Fragment/IProvider相关的RouteMeta为value
      * 根据path找不到对应的RouteMeta时 或者 动态添加路由时，会传给ARouter$$Group$${groupName}.loadInto(Map<String, RouteMeta> atlas)
      */
-    static Map<String, RouteMeta> routes = new HashMap<>();
+    final Map<String, RouteMeta> routes = new HashMap<>();
+
+    /**
+     * 以groupName为key，该group中带变量的路由(如/product/{id}/detail)组成的前缀树为value
+     * group加载时构建，根据path找不到对应的RouteMeta时再尝试匹配
+     */
+    final Map<String, PathMatcher> matchers = new HashMap<>();
+
+    /**
+     * 已加载路由的基数树，调用ARouter.openRouteIndex()后才会构建，group加载时增量添加
+     * Optional, null if it's not open.
+     */
+    RouteIndex routeIndex;
 
     /**
      * Cache provider
      * 第一次实例化IProvider实现类后，缓存起来，后续就不需要重复实例化
      * 以IProvider实现类的Class对象为key，IProvider实现类的实例为value
      */
-    static Map<Class, IProvider> providers = new HashMap<>();
+    final Map<Class, IProvider> providers = new HashMap<>();
 
     /**
      * 以 @Route修饰的IProvider实现类 / 或其接口 为key，IProvider实现类的RouteMeta为value
      * 初始化时传给ARouter$$Providers$${moduleName}.loadInto(Map<String, RouteMeta> providers)
      */
-    static Map<String, RouteMeta> providersIndex = new HashMap<>();
+    final Map<String, RouteMeta> providersIndex = new HashMap<>();
 
     /**
      * Cache interceptor
      * 以priority为key，拦截器的实现类的class对象为value
      * 初始化时传给ARouter$$Interceptors$${moduleName}.loadInto(Map<Integer, Class<? extends IInterceptor>> interceptors)
      */
-    static Map<Integer, Class<? extends IInterceptor>> interceptorsIndex = new UniqueKeyTreeMap<>("More than one interceptors use same priority [%s]");
+    final Map<Integer, Class<? extends IInterceptor>> interceptorsIndex = new UniqueKeyTreeMap<>("More than one interceptors use same priority [%s]");
 
     /**
      * InterceptorServiceImpl初始化时会实例化interceptorsIndex中保存的拦截器类，然后混存到interceptors中，
      * 然后在_ARouter.navigation(...)时遍历interceptors中缓存的拦截器，执行各拦截器的process方法
      */
-    static List<IInterceptor> interceptors = new ArrayList<>();
+    final List<IInterceptor> interceptors = new ArrayList<>();
+
+    /**
+     * 已加载group的LRU及内存估算，限制内存时淘汰的group会放回groupsIndex，下次访问时重新加载
+     */
+    final RouteMemory memory = new RouteMemory();
 
-    static void clear() {
+    void clear() {
         routes.clear();
+        matchers.clear();
+        if (null != routeIndex) {
+            routeIndex = new RouteIndex();
+        }
         groupsIndex.clear();
         providers.clear();
         providersIndex.clear();
         interceptors.clear();
         interceptorsIndex.clear();
+        memory.clear();
     }
 }
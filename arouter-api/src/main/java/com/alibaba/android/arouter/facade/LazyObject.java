@@ -0,0 +1,67 @@
+package com.alibaba.android.arouter.facade;
+
+import com.alibaba.android.arouter.core.HandoffStore;
+import com.alibaba.android.arouter.facade.service.SerializationService;
+import com.alibaba.android.arouter.utils.PayloadUtils;
+
+import java.lang.reflect.Type;
+
+/**
+ * Holder of object param, it will be parsed on first access.
+ * Used for field annotation by @Autowired(lazy = true), large json won't be parsed when inject.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 15:02
+ */
+public final class LazyObject<T> {
+    private final Object payload;
+    private final Type type;
+    private final SerializationService serializationService;
+
+    private volatile boolean parsed;
+    private T value;
+
+    /**
+     * @param owner                activity or fragment which need the object
+     * @param payload              value in extras, json string, bytes or token of large object.
+     * @param type                 object type
+     * @param serializationService service for json, maybe null.
+     */
+    public LazyObject(Object owner, Object payload, Type type, SerializationService serializationService) {
+        this.payload = payload;
+        this.type = type;
+        this.serializationService = serializationService;
+
+        if (HandoffStore.isToken(payload)) {
+            // Large object needn't parse, take it now, then the owner can hold it.
+            this.value = PayloadUtils.parseObject(owner, payload, type, serializationService);
+            this.parsed = true;
+        }
+    }
+
+    /**
+     * Get the object, parse it on first access.
+     *
+     * @return object, null if there is no such param.
+     */
+    public T get() {
+        if (!parsed) {
+            synchronized (this) {
+                if (!parsed) {
+                    value = PayloadUtils.parseObject(payload, type, serializationService);
+                    parsed = true;
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Whether the param has been passed.
+     */
+    public boolean isPresent() {
+        return null != payload;
+    }
+}
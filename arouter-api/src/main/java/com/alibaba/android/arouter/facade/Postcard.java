@@ -11,8 +11,10 @@ import android.support.annotation.RequiresApi;
 import android.support.v4.app.ActivityOptionsCompat;
 import android.util.SparseArray;
 
+import com.alibaba.android.arouter.core.HandoffStore;
 import com.alibaba.android.arouter.facade.callback.NavigationCallback;
 import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.service.BinarySerializationService;
 import com.alibaba.android.arouter.facade.service.SerializationService;
 import com.alibaba.android.arouter.facade.template.IProvider;
 import com.alibaba.android.arouter.launcher.ARouter;
@@ -39,6 +41,7 @@ public final class Postcard extends RouteMeta {
     private SerializationService serializationService;
     private Context context;        // May application or activity, check instance type before use it.
     private String action;
+    private RouteMeta boundMeta;    // Resolved meta, bound by generated navigator, so it needn't lookup again.
 
     // Animation
     private Bundle optionsCompat;    // The transition animation of activity
@@ -81,6 +84,22 @@ public final class Postcard extends RouteMeta {
         this.mBundle = (null == bundle ? new Bundle() : bundle);
     }
 
+    public RouteMeta getBoundMeta() {
+        return boundMeta;
+    }
+
+    /**
+     * Bind the resolved meta, the completion will use it directly,
+     * and skip path lookup and group loading. inner params, DO NOT USE!
+     *
+     * @param boundMeta meta of this route
+     * @return this
+     */
+    public Postcard bindMeta(RouteMeta boundMeta) {
+        this.boundMeta = boundMeta;
+        return this;
+    }
+
     public boolean isGreenChannel() {
         return greenChannel;
     }
@@ -237,6 +256,40 @@ public final class Postcard extends RouteMeta {
         return this;
     }
 
+    /**
+     * Set object value as bytes by BinarySerializationService, it's smaller and cheaper than json for large object.
+     * The receiver must be injected by @Autowired generated by current arouter-compiler, or read the bytes by itself,
+     * getStringExtra returns null. Use json of withObject if BinarySerializationService isn't implemented.
+     * 以二进制传递object对象，接收方需要用新版本的@Autowired注入
+     *
+     * @param key   a String, or null
+     * @param value a Object, or null
+     * @return current
+     */
+    public Postcard withBinaryObject(@Nullable String key, @Nullable Object value) {
+        BinarySerializationService binarySerializationService = ARouter.getInstance().navigation(BinarySerializationService.class);
+        if (null == binarySerializationService) {
+            return withObject(key, value);
+        }
+
+        mBundle.putByteArray(key, binarySerializationService.object2Bytes(value));
+        return this;
+    }
+
+    /**
+     * Set large object value, the object won't be serialized or put into bundle,
+     * only a token will be put, and the target get the same object by @Autowired field.
+     * NOTE: The target must be in the same process, DO NOT modify the object after navigation.
+     *
+     * @param key   a String, or null
+     * @param value a Object, or null
+     * @return current
+     */
+    public Postcard withLargeObject(@Nullable String key, @Nullable Object value) {
+        mBundle.putSerializable(key, null == value ? null : HandoffStore.put(value));
+        return this;
+    }
+
     // Follow api copy from #{Bundle}
 
     /**
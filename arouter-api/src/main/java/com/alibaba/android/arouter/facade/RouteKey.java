@@ -0,0 +1,119 @@
+package com.alibaba.android.arouter.facade;
+
+import com.alibaba.android.arouter.exception.HandlerException;
+import com.alibaba.android.arouter.utils.Consts;
+import com.alibaba.android.arouter.utils.TextUtils;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-parsed key of route, contains path and group.
+ * Build it once (usually as a constant, see ARouter$$Paths$$[moduleName]),
+ * then navigation needn't extract group from path again.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 11:05
+ */
+public final class RouteKey {
+    // Interned keys, path as key.
+    private static final ConcurrentHashMap<String, RouteKey> pool = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final String group;
+    private final int hash;
+
+    private RouteKey(String path, String group) {
+        this.path = path;
+        this.group = group;
+        this.hash = 31 * path.hashCode() + group.hashCode();
+    }
+
+    /**
+     * Get key of path, the group is the first word in path.
+     * Keys are interned, so it should be used for constant path.
+     *
+     * @param path path of route, like '/test/activity'
+     * @return interned key
+     */
+    public static RouteKey of(String path) {
+        if (TextUtils.isEmpty(path)) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        }
+
+        RouteKey key = pool.get(path);
+        if (null == key) {
+            key = intern(new RouteKey(path.intern(), extractGroup(path).intern()));
+        }
+
+        return key;
+    }
+
+    /**
+     * Get key of path with special group.
+     *
+     * @param path  path of route
+     * @param group group of route
+     * @return interned key
+     */
+    public static RouteKey of(String path, String group) {
+        if (TextUtils.isEmpty(path) || TextUtils.isEmpty(group)) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        }
+
+        RouteKey key = pool.get(path);
+        if (null == key || !key.group.equals(group)) {
+            key = intern(new RouteKey(path.intern(), group.intern()));
+        }
+
+        return key;
+    }
+
+    private static RouteKey intern(RouteKey key) {
+        RouteKey exist = pool.putIfAbsent(key.path, key);
+        return (null == exist || !exist.group.equals(key.group)) ? key : exist;
+    }
+
+    private static String extractGroup(String path) {
+        int end = path.startsWith("/") ? path.indexOf("/", 1) : -1;
+        if (end <= 1) {
+            throw new HandlerException(Consts.TAG + "Extract the default group failed, the path must be start with '/' and contain more than 2 '/'!");
+        }
+
+        return path.substring(1, end);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RouteKey)) {
+            return false;
+        }
+
+        RouteKey other = (RouteKey) o;
+        return hash == other.hash && path.equals(other.path) && group.equals(other.group);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "RouteKey{" +
+                "path='" + path + '\'' +
+                ", group='" + group + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.alibaba.android.arouter.facade.service;
+
+import com.alibaba.android.arouter.facade.template.IProvider;
+
+import java.lang.reflect.Type;
+
+/**
+ * Used for serialize object into bytes, such as protobuf, kryo and so on.
+ * If it has been implemented, Postcard.withBinaryObject puts bytes instead of json string,
+ * which is smaller and cheaper than json for large object. Postcard.withObject always puts json.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 15:40
+ */
+public interface BinarySerializationService extends IProvider {
+
+    /**
+     * Object to bytes
+     *
+     * @param instance obj
+     * @return bytes
+     */
+    byte[] object2Bytes(Object instance);
+
+    /**
+     * Parse bytes to object
+     *
+     * @param input bytes
+     * @param clazz object type
+     * @return instance of object
+     */
+    <T> T parseObject(byte[] input, Type clazz);
+}
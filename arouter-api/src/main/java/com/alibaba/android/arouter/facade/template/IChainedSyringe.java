@@ -0,0 +1,12 @@
+package com.alibaba.android.arouter.facade.template;
+
+/**
+ * Template of syringe which inject the fields of super classes too,
+ * so autowired service needn't walk up the super classes any more.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 14:10
+ */
+public interface IChainedSyringe extends ISyringe {
+}
@@ -0,0 +1,24 @@
+package com.alibaba.android.arouter.facade.template;
+
+/**
+ * Logger which can tell whether the level is enabled,
+ * so the message needn't be built if it won't be printed, see LogUtils.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 20:10
+ */
+public interface ILeveledLogger extends ILogger {
+    // Same as android.util.Log
+    int DEBUG = 3;
+    int INFO = 4;
+    int WARN = 5;
+    int ERROR = 6;
+
+    /**
+     * Whether the message of level will be printed.
+     *
+     * @param level DEBUG, INFO, WARN or ERROR
+     */
+    boolean isLoggable(int level);
+}
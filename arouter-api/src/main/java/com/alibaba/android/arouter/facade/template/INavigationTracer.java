@@ -0,0 +1,42 @@
+package com.alibaba.android.arouter.facade.template;
+
+/**
+ * Tracer of navigation, find out where the time goes.
+ * Set it by ARouter.setTracer, nothing will be traced if it's not set.
+ *
+ * Synchronous stages begin and end in the same thread,
+ * async stages (interceptors, interceptor, main thread) may end in other thread.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 19:30
+ */
+public interface INavigationTracer {
+    int STAGE_BUILD = 0;            // ARouter.build, include PathReplaceService.
+    int STAGE_PATH_REPLACE = 1;     // PathReplaceService.
+    int STAGE_PRETREATMENT = 2;     // PretreatmentService.
+    int STAGE_RESOLVE = 3;          // Find route and complete postcard, include group loading.
+    int STAGE_INTERCEPTORS = 4;     // Async, whole chain of interceptors.
+    int STAGE_INTERCEPTOR = 5;      // Async, one interceptor, subject is the interceptor.
+    int STAGE_MAIN_THREAD = 6;      // Async, waiting for main thread.
+    int STAGE_START_ACTIVITY = 7;   // Start activity.
+
+    /**
+     * Stage begin.
+     *
+     * @param stage   stage
+     * @param path    path of route
+     * @param subject interceptor of STAGE_INTERCEPTOR, otherwise null.
+     */
+    void begin(int stage, String path, Object subject);
+
+    /**
+     * Stage end.
+     *
+     * @param stage     stage
+     * @param path      path of route
+     * @param subject   interceptor of STAGE_INTERCEPTOR, otherwise null.
+     * @param costNanos time cost of this stage, TimeUnit.Nanosecond
+     */
+    void end(int stage, String path, Object subject, long costNanos);
+}
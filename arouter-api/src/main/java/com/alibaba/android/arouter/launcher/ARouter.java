@@ -4,14 +4,24 @@ import android.app.Application;
 import android.content.Context;
 import android.net.Uri;
 
+import com.alibaba.android.arouter.core.Metrics;
+import com.alibaba.android.arouter.core.RouteMemoryStats;
+import com.alibaba.android.arouter.core.RouteOverrides;
+import com.alibaba.android.arouter.core.RouteSnapshot;
+import com.alibaba.android.arouter.core.StartupReport;
 import com.alibaba.android.arouter.exception.InitException;
 import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.RouteKey;
 import com.alibaba.android.arouter.facade.callback.NavigationCallback;
 import com.alibaba.android.arouter.facade.model.RouteMeta;
 import com.alibaba.android.arouter.facade.template.ILogger;
+import com.alibaba.android.arouter.facade.template.INavigationTracer;
 import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.platform.Platform;
 import com.alibaba.android.arouter.utils.Consts;
 
+import java.io.File;
+import java.util.List;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -25,10 +35,13 @@ public final class ARouter {
     // Key of raw uri
     public static final String RAW_URI = "NTeRQWvye18AkPd6G";
     public static final String AUTO_INJECT = "wmHzgD4lOj5o4241";
+    // Key of the path before degraded by route overrides
+    public static final String DEGRADE_FROM = "Lq5ZcXo2dEr7vBkU";
 
     private volatile static ARouter instance = null;
     private volatile static boolean hasInit = false;
     public static ILogger logger;
+    public static volatile INavigationTracer tracer;     // Null if nobody cares.
 
     private ARouter() {
     }
@@ -89,6 +102,14 @@ public final class ARouter {
         _ARouter.setExecutor(tpe);
     }
 
+    /**
+     * Bind platform before init, android is bound by default.
+     * The routing core runs on plain JVM with {@link com.alibaba.android.arouter.platform.JvmPlatform}.
+     */
+    public static synchronized void setPlatform(Platform platform) {
+        _ARouter.setPlatform(platform);
+    }
+
     public synchronized void destroy() {
         _ARouter.destroy();
         hasInit = false;
@@ -123,6 +144,61 @@ public final class ARouter {
         return _ARouter.isMonitorMode();
     }
 
+    /**
+     * Build radix tree index for loaded routes, then findRoutes and findNearestRoute needn't scan all of routes.
+     */
+    public static synchronized void openRouteIndex() {
+        _ARouter.openRouteIndex();
+    }
+
+    /**
+     * Cache the result of deep link, the same uri needn't be replaced, matched and parsed again.
+     * The cache will be cleared when routes changed.
+     * NOTE: PathReplaceService.forUri should return the same uri for the same input.
+     *
+     * @param maxSize max count of uri, 0 to close it.
+     */
+    public static synchronized void openUriCache(int maxSize) {
+        _ARouter.openUriCache(maxSize);
+    }
+
+    /**
+     * Bound the memory of loaded routes for huge app, the least recently used groups will be evicted,
+     * and loaded again on next access.
+     *
+     * @param maxBytes limit of estimated bytes, 0 for unbounded.
+     */
+    public static synchronized void limitRouteMemory(long maxBytes) {
+        _ARouter.limitRouteMemory(maxBytes);
+    }
+
+    /**
+     * Load route overrides of remote config from local file in background, and reload it when the file changed.
+     * Write the file by RouteOverrides.writeTo, into a temp file then rename it.
+     *
+     * @param file                override file
+     * @param checkIntervalMillis interval of checking file change, 0 to load once.
+     */
+    public static synchronized void watchRouteOverrides(File file, long checkIntervalMillis) {
+        _ARouter.watchRouteOverrides(file, checkIntervalMillis);
+    }
+
+    /**
+     * Stop watching the override file, and clear the overrides.
+     */
+    public static synchronized void stopRouteOverrides() {
+        _ARouter.stopRouteOverrides();
+    }
+
+    /**
+     * Trace the stages of navigation, null to stop tracing.
+     *
+     * @param userTracer tracer, eg: DefaultTracer
+     */
+    public static void setTracer(INavigationTracer userTracer) {
+        tracer = userTracer;
+    }
+
     public static void setLogger(ILogger userLogger) {
         _ARouter.setLogger(userLogger);
     }
@@ -143,6 +219,24 @@ public final class ARouter {
         return _ARouter.getInstance().build(path);
     }
 
+    /**
+     * Build the roadmap, draw a postcard.
+     *
+     * @param key Where you go, path and group has been parsed.
+     */
+    public Postcard build(RouteKey key) {
+        return _ARouter.getInstance().build(key);
+    }
+
+    /**
+     * Build the roadmap with resolved meta, used by generated navigator.
+     *
+     * @param meta Where you go, it has been resolved at compile time.
+     */
+    public Postcard build(RouteMeta meta) {
+        return _ARouter.getInstance().build(meta);
+    }
+
     /**
      * Build the roadmap, draw a postcard.
      *
@@ -186,6 +280,64 @@ public final class ARouter {
         return _ARouter.getInstance().navigation(mContext, postcard, requestCode, callback);
     }
 
+    /**
+     * Find the loaded routes under prefix, like '/settings/account' and '/settings/about' for '/settings'.
+     * NOTE: Routes of the group which hasn't been loaded are not included.
+     *
+     * @param prefix prefix of path
+     * @return routes sorted by path
+     */
+    public List<RouteMeta> findRoutes(String prefix) {
+        return _ARouter.getInstance().findRoutes(prefix);
+    }
+
+    /**
+     * Find the loaded route of path, or its nearest parent, like '/settings/account' for '/settings/account/privacy'.
+     * It can be used in DegradeService.
+     *
+     * @param path path
+     * @return route, null if not found.
+     */
+    public RouteMeta findNearestRoute(String path) {
+        return _ARouter.getInstance().findNearestRoute(path);
+    }
+
+    /**
+     * Metrics recorded since monitorMode was opened, like navigations, misses and cost of group loading.
+     *
+     * @return snapshot of metrics, it's empty if monitorMode is not opened.
+     */
+    public Metrics.Snapshot metrics() {
+        return _ARouter.getInstance().metrics();
+    }
+
+    /**
+     * Cost of the phases in init, like scanning dex and loading root elements, write it to file by StartupReport.writeTo.
+     *
+     * @return report of init
+     */
+    public StartupReport startupReport() {
+        return _ARouter.getInstance().startupReport();
+    }
+
+    /**
+     * Estimated memory of loaded routes, and the eviction of groups.
+     *
+     * @return stats of route memory
+     */
+    public RouteMemoryStats routeMemory() {
+        return _ARouter.getInstance().routeMemory();
+    }
+
+    /**
+     * Route overrides loaded from the file by watchRouteOverrides.
+     *
+     * @return current overrides, empty if nothing loaded.
+     */
+    public RouteOverrides routeOverrides() {
+        return _ARouter.getInstance().routeOverrides();
+    }
+
     /**
      * Add route group dynamic.
      * @param group route group.
@@ -194,4 +346,32 @@ public final class ARouter {
     public boolean addRouteGroup(IRouteGroup group) {
         return _ARouter.getInstance().addRouteGroup(group);
     }
+
+    /**
+     * Routes which cover the routes of groups, build the next version by getRouteSnapshot().newBuilder().
+     *
+     * @return current snapshot, version 0 if nothing published.
+     */
+    public RouteSnapshot getRouteSnapshot() {
+        return _ARouter.getInstance().getRouteSnapshot();
+    }
+
+    /**
+     * Publish a large update of routes at once, the navigations never wait for it.
+     *
+     * @param snapshot built from current snapshot
+     * @return false if another snapshot was published after it's built, rebuild and try again.
+     */
+    public boolean publishRoutes(RouteSnapshot snapshot) {
+        return _ARouter.getInstance().publishRoutes(snapshot);
+    }
+
+    /**
+     * Rollback to the previous version of route snapshot.
+     *
+     * @return false if there's no more history.
+     */
+    public boolean rollbackRoutes() {
+        return _ARouter.getInstance().rollbackRoutes();
+    }
 }
@@ -6,35 +6,60 @@ import android.app.Fragment;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
-import android.os.Handler;
-import android.os.Looper;
 import android.support.v4.app.ActivityCompat;
 import android.util.Log;
 import android.widget.Toast;
 
+import com.alibaba.android.arouter.core.HandoffStore;
 import com.alibaba.android.arouter.core.InstrumentationHook;
 import com.alibaba.android.arouter.core.LogisticsCenter;
+import com.alibaba.android.arouter.core.Metrics;
+import com.alibaba.android.arouter.core.RouteMemoryStats;
+import com.alibaba.android.arouter.core.RouteOverrides;
+import com.alibaba.android.arouter.core.RouteOverridesWatcher;
+import com.alibaba.android.arouter.core.RouteResolution;
+import com.alibaba.android.arouter.core.RouteSnapshot;
+import com.alibaba.android.arouter.core.RouterEngine;
+import com.alibaba.android.arouter.core.StartupReport;
+import com.alibaba.android.arouter.core.UriCache;
 import com.alibaba.android.arouter.exception.HandlerException;
 import com.alibaba.android.arouter.exception.InitException;
-import com.alibaba.android.arouter.exception.NoRouteFoundException;
 import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.RouteKey;
 import com.alibaba.android.arouter.facade.callback.InterceptorCallback;
 import com.alibaba.android.arouter.facade.callback.NavigationCallback;
 import com.alibaba.android.arouter.facade.model.RouteMeta;
 import com.alibaba.android.arouter.facade.service.*;
+import com.alibaba.android.arouter.facade.template.ILeveledLogger;
 import com.alibaba.android.arouter.facade.template.ILogger;
 import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.platform.AndroidPlatform;
+import com.alibaba.android.arouter.platform.MainThread;
+import com.alibaba.android.arouter.platform.Platform;
+import com.alibaba.android.arouter.platform.Platforms;
 import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
 import com.alibaba.android.arouter.utils.Consts;
 import com.alibaba.android.arouter.utils.DefaultLogger;
+import com.alibaba.android.arouter.utils.LogUtils;
 import com.alibaba.android.arouter.utils.TextUtils;
+import com.alibaba.android.arouter.utils.TraceUtils;
 
+import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_BUILD;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_INTERCEPTORS;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_MAIN_THREAD;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_PATH_REPLACE;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_PRETREATMENT;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_RESOLVE;
+import static com.alibaba.android.arouter.facade.template.INavigationTracer.STAGE_START_ACTIVITY;
+
 /**
  * ARouter core (Facade patten)
  *
@@ -50,20 +75,23 @@ final class _ARouter {
     private volatile static _ARouter instance = null;
     private volatile static boolean hasInit = false;
     private volatile static ThreadPoolExecutor executor = DefaultPoolExecutor.getInstance();
-    private static Handler mHandler;
     private static Context mContext;
 
     private static InterceptorService interceptorService;
+    private static RouteOverridesWatcher overridesWatcher;
 
     private _ARouter() {
     }
 
     protected static synchronized boolean init(Application application) {
         mContext = application;
+        if (!Platforms.isBound()) {
+            Platforms.bind(new AndroidPlatform(application));
+        }
         LogisticsCenter.init(mContext, executor);
+        HandoffStore.init(application);
         logger.info(Consts.TAG, "ARouter init success!");
         hasInit = true;
-        mHandler = new Handler(Looper.getMainLooper());
 
         return true;
     }
@@ -148,8 +176,13 @@ final class _ARouter {
         executor = tpe;
     }
 
+    static synchronized void setPlatform(Platform platform) {
+        Platforms.bind(platform);
+    }
+
     static synchronized void monitorMode() {
         monitorMode = true;
+        Metrics.enable();
         logger.info(Consts.TAG, "ARouter monitorMode on");
     }
 
@@ -157,6 +190,38 @@ final class _ARouter {
         return monitorMode;
     }
 
+    static synchronized void openUriCache(int maxSize) {
+        UriCache.open(maxSize);
+        logger.info(Consts.TAG, "ARouter openUriCache, max size is " + maxSize);
+    }
+
+    static synchronized void limitRouteMemory(long maxBytes) {
+        RouterEngine.getDefault().setRouteMemoryLimit(maxBytes);
+        logger.info(Consts.TAG, "ARouter limitRouteMemory, max bytes is " + maxBytes);
+    }
+
+    static synchronized void watchRouteOverrides(File file, long checkIntervalMillis) {
+        if (null != overridesWatcher) {
+            overridesWatcher.stop();
+        }
+        overridesWatcher = new RouteOverridesWatcher(file, checkIntervalMillis, RouterEngine.getDefault());
+        overridesWatcher.start();
+        logger.info(Consts.TAG, "ARouter watchRouteOverrides, file is " + file);
+    }
+
+    static synchronized void stopRouteOverrides() {
+        if (null != overridesWatcher) {
+            overridesWatcher.stop();
+            overridesWatcher = null;
+        }
+        RouterEngine.getDefault().setRouteOverrides(null);
+    }
+
+    static synchronized void openRouteIndex() {
+        LogisticsCenter.openRouteIndex();
+        logger.info(Consts.TAG, "ARouter openRouteIndex");
+    }
+
     static boolean debuggable() {
         return debuggable;
     }
@@ -181,11 +246,94 @@ final class _ARouter {
         if (TextUtils.isEmpty(path)) {
             throw new HandlerException(Consts.TAG + "Parameter is invalid!");
         } else {
-            PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
-            if (null != pService) {
-                path = pService.forString(path);
+            long begin = TraceUtils.begin(STAGE_BUILD, path, null);
+            try {
+                PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
+                if (null != pService) {
+                    path = replacePath(pService, path);
+                }
+                path = overridePath(path);
+
+                return build(path, extractGroup(path), true);
+            } finally {
+                TraceUtils.end(STAGE_BUILD, path, null, begin);
+            }
+        }
+    }
+
+    /**
+     * Replace path by PathReplaceService.
+     */
+    private String replacePath(PathReplaceService pService, String path) {
+        long begin = TraceUtils.begin(STAGE_PATH_REPLACE, path, null);
+        try {
+            return pService.forString(path);
+        } finally {
+            TraceUtils.end(STAGE_PATH_REPLACE, path, null, begin);
+        }
+    }
+
+    /**
+     * Replace path by route overrides of remote config, O(1).
+     */
+    private String overridePath(String path) {
+        RouteOverrides.Entry override = RouterEngine.getDefault().getRouteOverrides().get(path);
+        return (null == override || null == override.getReplacement()) ? path : override.getReplacement();
+    }
+
+    /**
+     * Build postcard by pre-parsed key, group needn't extract again.
+     */
+    protected Postcard build(RouteKey key) {
+        if (null == key) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        } else {
+            String path = key.getPath();
+            long begin = TraceUtils.begin(STAGE_BUILD, path, null);
+            try {
+                PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
+                if (null != pService) {
+                    path = replacePath(pService, path);
+                }
+                path = overridePath(path);
+
+                if (!key.getPath().equals(path)) {
+                    // Path has been replaced, the group in key is useless.
+                    return build(path, extractGroup(path), true);
+                }
+
+                return new Postcard(key.getPath(), key.getGroup());
+            } finally {
+                TraceUtils.end(STAGE_BUILD, path, null, begin);
+            }
+        }
+    }
+
+    /**
+     * Build postcard by resolved meta, used by generated navigator.
+     */
+    protected Postcard build(RouteMeta meta) {
+        if (null == meta || TextUtils.isEmpty(meta.getPath())) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        } else {
+            String path = meta.getPath();
+            long begin = TraceUtils.begin(STAGE_BUILD, path, null);
+            try {
+                PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
+                if (null != pService) {
+                    path = replacePath(pService, path);
+                }
+                path = overridePath(path);
+
+                if (!meta.getPath().equals(path)) {
+                    // Path has been replaced, the meta is not the destination any more.
+                    return build(path, extractGroup(path), true);
+                }
+
+                return new Postcard(meta.getPath(), meta.getGroup()).bindMeta(meta);
+            } finally {
+                TraceUtils.end(STAGE_BUILD, path, null, begin);
             }
-            return build(path, extractGroup(path), true);
         }
     }
 
@@ -193,14 +341,43 @@ final class _ARouter {
      * Build postcard by uri
      */
     protected Postcard build(Uri uri) {
-        if (null == uri || TextUtils.isEmpty(uri.toString())) {
+        String rawUri = null == uri ? null : uri.toString();
+        if (TextUtils.isEmpty(rawUri)) {
             throw new HandlerException(Consts.TAG + "Parameter invalid!");
         } else {
-            PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
-            if (null != pService) {
-                uri = pService.forUri(uri);
+            String path = uri.getPath();
+            long begin = TraceUtils.begin(STAGE_BUILD, path, null);
+            try {
+                // Deep link has been built before, needn't replace it again.
+                // Take the generation before reading overrides, the target is dropped if they are changed meanwhile.
+                int generation = UriCache.generation();
+                UriCache.CachedUri cached = UriCache.get(rawUri);
+                if (null != cached && null != cached.getTarget()) {
+                    Uri target = cached.getTarget();
+                    return new Postcard(target.getPath(), cached.getGroup(), target, null);
+                }
+
+                PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
+                if (null != pService) {
+                    long replace = TraceUtils.begin(STAGE_PATH_REPLACE, path, null);
+                    try {
+                        uri = pService.forUri(uri);
+                    } finally {
+                        TraceUtils.end(STAGE_PATH_REPLACE, path, null, replace);
+                    }
+                }
+
+                String overridden = overridePath(uri.getPath());
+                if (!overridden.equals(uri.getPath())) {
+                    uri = uri.buildUpon().path(overridden).build();
+                }
+
+                String group = extractGroup(uri.getPath());
+                UriCache.putTarget(rawUri, uri, group, generation);
+                return new Postcard(uri.getPath(), group, uri, null);
+            } finally {
+                TraceUtils.end(STAGE_BUILD, path, null, begin);
             }
-            return new Postcard(uri.getPath(), extractGroup(uri.getPath()), uri, null);
         }
     }
 
@@ -214,7 +391,14 @@ final class _ARouter {
             if (!afterReplace) {
                 PathReplaceService pService = ARouter.getInstance().navigation(PathReplaceService.class);
                 if (null != pService) {
-                    path = pService.forString(path);
+                    path = replacePath(pService, path);
+                }
+
+                String overridden = overridePath(path);
+                if (!overridden.equals(path)) {
+                    // The group belongs to the path before overridden.
+                    path = overridden;
+                    group = extractGroup(path);
                 }
             }
             return new Postcard(path, group);
@@ -230,17 +414,16 @@ final class _ARouter {
             throw new HandlerException(Consts.TAG + "Extract the default group failed, the path must be start with '/' and contain more than 2 '/'!");
         }
 
-        try {
-            String defaultGroup = path.substring(1, path.indexOf("/", 1));
-            if (TextUtils.isEmpty(defaultGroup)) {
-                throw new HandlerException(Consts.TAG + "Extract the default group failed! There's nothing between 2 '/'!");
-            } else {
-                return defaultGroup;
-            }
-        } catch (Exception e) {
-            logger.warning(Consts.TAG, "Failed to extract default group! " + e.getMessage());
+        int end = path.indexOf("/", 1);
+        if (end < 0) {
+            LogUtils.warning(Consts.TAG, "Failed to extract default group! There's only one '/' in path [%s]", path);
+            return null;
+        } else if (end == 1) {
+            logger.warning(Consts.TAG, "Failed to extract default group! There's nothing between 2 '/'!");
             return null;
         }
+
+        return path.substring(1, end);
     }
 
     static void afterInit() {
@@ -254,32 +437,36 @@ final class _ARouter {
      * @return          IProvider服务的实例
      */
     protected <T> T navigation(Class<? extends T> service) {
-        try {
-            // 根据service的全路径类名，从Warehouse.providersIndex中找到对应的RouteMeta
-            Postcard postcard = LogisticsCenter.buildProvider(service.getName());
-
-            // Compatible 1.0.5 compiler sdk.
-            // Earlier versions did not use the fully qualified name to get the service
-            if (null == postcard) {
-                // No service, or this service in old version.
-                // 兼容旧版本的compiler sdk，根据service的类名，从Warehouse.providersIndex中找到对应的RouteMeta
-                postcard = LogisticsCenter.buildProvider(service.getSimpleName());
-            }
+        // 根据service的全路径类名，从Warehouse.providersIndex中找到对应的RouteMeta
+        Postcard postcard = LogisticsCenter.buildProvider(service.getName());
+
+        // Compatible 1.0.5 compiler sdk.
+        // Earlier versions did not use the fully qualified name to get the service
+        if (null == postcard) {
+            // No service, or this service in old version.
+            // 兼容旧版本的compiler sdk，根据service的类名，从Warehouse.providersIndex中找到对应的RouteMeta
+            postcard = LogisticsCenter.buildProvider(service.getSimpleName());
+        }
 
-            if (null == postcard) {
-                return null;
-            }
+        if (null == postcard) {
+            return null;
+        }
 
-            // Set application to postcard.
-            // 为IProvider服务对应的postcard设置Application Context
-            postcard.setContext(mContext);
+        // Set application to postcard.
+        // 为IProvider服务对应的postcard设置Application Context
+        postcard.setContext(mContext);
 
-            LogisticsCenter.completion(postcard);
-            return (T) postcard.getProvider();
-        } catch (NoRouteFoundException ex) {
-            logger.warning(Consts.TAG, ex.getMessage());
+        RouteResolution resolution = LogisticsCenter.resolve(postcard);
+        if (resolution.isMissing()) {
+            if (LogUtils.isLoggable(ILeveledLogger.WARN)) {
+                logger.warning(Consts.TAG, resolution.getMessage());
+            }
             return null;
+        } else if (resolution.isError()) {
+            throw new HandlerException(resolution.getMessage());
         }
+
+        return (T) postcard.getProvider();
     }
 
     /**
@@ -293,31 +480,64 @@ final class _ARouter {
     protected Object navigation(final Context context, final Postcard postcard, final int requestCode, final NavigationCallback callback) {
         // 执行路由操作前，前获取预处理服务，PretreatmentService也是IProvider
         PretreatmentService pretreatmentService = ARouter.getInstance().navigation(PretreatmentService.class);
-        if (null != pretreatmentService && !pretreatmentService.onPretreatment(context, postcard)) {
-            // 执行PretreatmentService.onPretreatment(Context context, Postcard postcard)，如果返回false则预处理失败，取消路由
-            // Pretreatment failed, navigation canceled.
-            return null;
+        if (null != pretreatmentService) {
+            String path = postcard.getPath();
+            long begin = TraceUtils.begin(STAGE_PRETREATMENT, path, null);
+            boolean pass;
+            try {
+                pass = pretreatmentService.onPretreatment(context, postcard);
+            } finally {
+                TraceUtils.end(STAGE_PRETREATMENT, path, null, begin);
+            }
+
+            if (!pass) {
+                // 执行PretreatmentService.onPretreatment(Context context, Postcard postcard)，如果返回false则预处理失败，取消路由
+                // Pretreatment failed, navigation canceled.
+                return null;
+            }
         }
 
         // Set context to postcard.
         // 为postcard设置context
         postcard.setContext(null == context ? mContext : context);
 
-        try {
-            // 完善postcard，根据postcard的path查找Warehouse.routes中是否存在对应的路由信息RouteMeta：
-            // 1. 如果Warehouse.routes中存在对应的RouteMeta，
-            //    则填充postcard的destination、type、priority、extra，bundle参数、@Autowired需要自动注入的参数名等，
-            //    如果type是PROVIDER的话，还会判断Warehouse.providers中是否存在对应的实例，
-            //    如果没有会实例化并缓存到Warehouse.providers中，同时设置给postcard；
-            // 2. 如果Warehouse.routes中不存在存在对应的RouteMeta，
-            //    则判断Warehouse.groupsIndex是否存在path对应的group，如果不存在则抛异常；
-            //    如果存在对应的group，则执行动态添加路由的逻辑，将Warehouse.routes传给
-            //    ARouter$$Group$${groupName}.loadInto(Map<String, RouteMeta> atlas)方法填充路由信息，
-            //    然后重复completion(postcard)方法。
-            LogisticsCenter.completion(postcard);
-        } catch (NoRouteFoundException ex) {
+        // 完善postcard，根据postcard的path查找Warehouse.routes中是否存在对应的路由信息RouteMeta：
+        // 1. 如果Warehouse.routes中存在对应的RouteMeta，
+        //    则填充postcard的destination、type、priority、extra，bundle参数、@Autowired需要自动注入的参数名等，
+        //    如果type是PROVIDER的话，还会判断Warehouse.providers中是否存在对应的实例，
+        //    如果没有会实例化并缓存到Warehouse.providers中，同时设置给postcard；
+        // 2. 如果Warehouse.routes中不存在存在对应的RouteMeta，
+        //    则判断Warehouse.groupsIndex是否存在path对应的group，如果不存在则返回MISSING；
+        //    如果存在对应的group，则执行动态添加路由的逻辑，将Warehouse.routes传给
+        //    ARouter$$Group$${groupName}.loadInto(Map<String, RouteMeta> atlas)方法填充路由信息，
+        //    然后重复resolve(postcard)方法。
+        RouteResolution resolution = resolve(postcard);
+        if (resolution.isMissing()) {
+            // 路由覆盖规则中配置了降级路径，则重新解析降级路径，只降级一次，预处理已经执行过，不再重复
+            RouteOverrides.Entry override = RouterEngine.getDefault().getRouteOverrides().get(postcard.getPath());
+            if (null != override && null != override.getDegrade() && !postcard.getExtras().containsKey(ARouter.DEGRADE_FROM)) {
+                if (LogUtils.isLoggable(ILeveledLogger.WARN)) {
+                    logger.warning(Consts.TAG, resolution.getMessage());
+                }
+                Metrics.count(Metrics.MISS, postcard.getGroup());
+                Metrics.count(Metrics.DEGRADE, postcard.getPath());
+                LogUtils.info(Consts.TAG, "Degrade [%s] to [%s] by overrides.", postcard.getPath(), override.getDegrade());
+                postcard.withString(ARouter.DEGRADE_FROM, postcard.getPath());
+                postcard.setPath(override.getDegrade());
+                postcard.setGroup(extractGroup(override.getDegrade()));
+                postcard.bindMeta(null);
+                resolution = resolve(postcard);
+            }
+        }
+
+        if (resolution.isError()) {
+            throw new HandlerException(resolution.getMessage());
+        } else if (resolution.isMissing()) {
             // 找不到postcard对应的路由信息，则执行callback.onLost(postcard)或降级策略
-            logger.warning(Consts.TAG, ex.getMessage());
+            if (LogUtils.isLoggable(ILeveledLogger.WARN)) {
+                logger.warning(Consts.TAG, resolution.getMessage());
+            }
+            Metrics.count(Metrics.MISS, postcard.getGroup());
 
             if (debuggable()) {
                 // Show friendly tips for user.
@@ -338,6 +558,7 @@ final class _ARouter {
                 // 执行降级策略，DegradeService也是IProvider
                 DegradeService degradeService = ARouter.getInstance().navigation(DegradeService.class);
                 if (null != degradeService) {
+                    Metrics.count(Metrics.DEGRADE, postcard.getGroup());
                     degradeService.onLost(context, postcard);
                 }
             }
@@ -345,6 +566,9 @@ final class _ARouter {
             return null;
         }
 
+        Metrics.count(Metrics.NAVIGATION, postcard.getPath());
+        Metrics.count(Metrics.NAVIGATION_TYPE, postcard.getType().name());
+
         // 存在对应的RouteMeta，执行回调callback.onFound(postcard)
         if (null != callback) {
             callback.onFound(postcard);
@@ -354,6 +578,7 @@ final class _ARouter {
             // 如果postcard没有设置绿色通道，则会执行拦截器逻辑；IProvider和Fragment默认是绿色通道
 
             // 拦截器IInterceptor可能有多个，在/arouter/service/interceptor对应的InterceptorService中，通过异步线程遍历执行
+            final long interceptorsBegin = TraceUtils.begin(STAGE_INTERCEPTORS, postcard.getPath(), null);
             interceptorService.doInterceptions(postcard, new InterceptorCallback() {
                 /**
                  * Continue process
@@ -363,6 +588,7 @@ final class _ARouter {
                 @Override
                 public void onContinue(Postcard postcard) {
                     // 不存在拦截器 或 所有拦截器都执行了onContinue回调
+                    TraceUtils.end(STAGE_INTERCEPTORS, postcard.getPath(), null, interceptorsBegin);
                     _navigation(postcard, requestCode, callback);
                 }
 
@@ -374,11 +600,13 @@ final class _ARouter {
                 @Override
                 public void onInterrupt(Throwable exception) {
                     // 拦截器执行超时 或 某个拦截器执行了onInterrupt回调 或 某个拦截器的process方法执行时报错了
+                    TraceUtils.end(STAGE_INTERCEPTORS, postcard.getPath(), null, interceptorsBegin);
+                    Metrics.count(Metrics.INTERRUPT, postcard.getPath());
                     if (null != callback) {
                         callback.onInterrupt(postcard);
                     }
 
-                    logger.info(Consts.TAG, "Navigation failed, termination by interceptor : " + exception.getMessage());
+                    LogUtils.info(Consts.TAG, "Navigation failed, termination by interceptor : %s", exception.getMessage());
                 }
             });
         } else {
@@ -389,6 +617,19 @@ final class _ARouter {
         return null;
     }
 
+    /**
+     * Resolve the postcard by routes of default engine, traced as STAGE_RESOLVE.
+     */
+    private RouteResolution resolve(Postcard postcard) {
+        String path = postcard.getPath();
+        long begin = TraceUtils.begin(STAGE_RESOLVE, path, null);
+        try {
+            return LogisticsCenter.resolve(postcard);
+        } finally {
+            TraceUtils.end(STAGE_RESOLVE, path, null, begin);
+        }
+    }
+
     // 执行跳转逻辑或返回对应路由的实例
     private Object _navigation(final Postcard postcard, final int requestCode, final NavigationCallback callback) {
         final Context currentContext = postcard.getContext();
@@ -418,10 +659,18 @@ final class _ARouter {
                 }
 
                 // Navigation in main looper.
+                final long postBegin = TraceUtils.begin(STAGE_MAIN_THREAD, postcard.getPath(), null);
                 runInMainThread(new Runnable() {
                     @Override
                     public void run() {
-                        startActivity(requestCode, currentContext, intent, postcard, callback);
+                        TraceUtils.end(STAGE_MAIN_THREAD, postcard.getPath(), null, postBegin);
+
+                        long begin = TraceUtils.begin(STAGE_START_ACTIVITY, postcard.getPath(), null);
+                        try {
+                            startActivity(requestCode, currentContext, intent, postcard, callback);
+                        } finally {
+                            TraceUtils.end(STAGE_START_ACTIVITY, postcard.getPath(), null, begin);
+                        }
                     }
                 });
 
@@ -466,8 +715,9 @@ final class _ARouter {
      * @param runnable code
      */
     private void runInMainThread(Runnable runnable) {
-        if (Looper.getMainLooper().getThread() != Thread.currentThread()) {
-            mHandler.post(runnable);
+        MainThread mainThread = Platforms.get().getMainThread();
+        if (!mainThread.isCurrentThread()) {
+            mainThread.post(runnable);
         } else {
             runnable.run();
         }
@@ -498,6 +748,62 @@ final class _ARouter {
         }
     }
 
+    /**
+     * 查找已加载的、路径在prefix之下的路由
+     *
+     * @param prefix prefix of path, like '/settings'
+     * @return routes sorted by path
+     */
+    List<RouteMeta> findRoutes(String prefix) {
+        if (TextUtils.isEmpty(prefix)) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        }
+
+        return LogisticsCenter.findRoutes(prefix);
+    }
+
+    /**
+     * 查找已加载的、与path最接近的上级路由(包括path本身)，可用于降级
+     *
+     * @param path path
+     * @return route, null if not found.
+     */
+    RouteMeta findNearestRoute(String path) {
+        if (TextUtils.isEmpty(path)) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        }
+
+        return LogisticsCenter.findNearestRoute(path);
+    }
+
+    /**
+     * 监控模式下记录的统计数据快照
+     */
+    Metrics.Snapshot metrics() {
+        return Metrics.snapshot();
+    }
+
+    /**
+     * 已加载路由的内存估算
+     */
+    RouteMemoryStats routeMemory() {
+        return RouterEngine.getDefault().getRouteMemoryStats();
+    }
+
+    /**
+     * 当前生效的路由覆盖规则
+     */
+    RouteOverrides routeOverrides() {
+        return RouterEngine.getDefault().getRouteOverrides();
+    }
+
+    /**
+     * init中各阶段的耗时报告
+     */
+    StartupReport startupReport() {
+        return LogisticsCenter.getStartupReport();
+    }
+
     /**
      * 动态添加路由信息到Warehouse.routes中
      * @param group 从IRouteGroup中提取的路由信息
@@ -539,7 +845,7 @@ final class _ARouter {
             // 动态添加路由信息到Warehouse.routes中
             LogisticsCenter.addRouteGroupDynamic(groupName, group);
 
-            logger.info(Consts.TAG, "Add route group [" + groupName + "] finish, " + dynamicRoute.size() + " new route meta.");
+            LogUtils.info(Consts.TAG, "Add route group [%s] finish, %d new route meta.", groupName, dynamicRoute.size());
 
             return true;
         } catch (Exception exception) {
@@ -548,4 +854,34 @@ final class _ARouter {
 
         return false;
     }
+
+    RouteSnapshot getRouteSnapshot() {
+        return RouterEngine.getDefault().getRouteSnapshot();
+    }
+
+    /**
+     * 以一次引用替换发布新的路由快照
+     * @param snapshot 基于当前快照构建的新快照
+     * @return         true发布成功 false期间已有其他快照发布
+     */
+    boolean publishRoutes(RouteSnapshot snapshot) {
+        if (null == snapshot) {
+            throw new HandlerException(Consts.TAG + "Parameter is invalid!");
+        }
+
+        boolean published = RouterEngine.getDefault().publishRoutes(snapshot);
+        logger.info(Consts.TAG, "Publish route snapshot " + snapshot + (published ? " finish." : " failed, it's out of date."));
+        return published;
+    }
+
+    /**
+     * 回滚到上一个版本的路由快照
+     */
+    boolean rollbackRoutes() {
+        boolean rolledBack = RouterEngine.getDefault().rollbackRoutes();
+        if (rolledBack) {
+            logger.info(Consts.TAG, "Rollback route snapshot to " + RouterEngine.getDefault().getRouteSnapshot());
+        }
+        return rolledBack;
+    }
 }
@@ -0,0 +1,108 @@
+package com.alibaba.android.arouter.platform;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.Set;
+
+/**
+ * Default binding, main looper, SharedPreferences and android.net.Uri.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public class AndroidPlatform implements Platform {
+    private final Context context;
+    private final MainThread mainThread;
+    private final UriParser uriParser;
+
+    public AndroidPlatform(Context context) {
+        this.context = context;
+        this.mainThread = new LooperMainThread();
+        this.uriParser = new UriParser() {
+            @Override
+            public String decode(String encoded) {
+                return Uri.decode(encoded);
+            }
+        };
+    }
+
+    @Override
+    public MainThread getMainThread() {
+        return mainThread;
+    }
+
+    @Override
+    public KeyValueStore getKeyValueStore(String name) {
+        return new SharedPreferencesStore(context.getSharedPreferences(name, Context.MODE_PRIVATE));
+    }
+
+    @Override
+    public UriParser getUriParser() {
+        return uriParser;
+    }
+
+    /**
+     * Main thread of android, used by Platforms before any platform is bound too.
+     */
+    static class LooperMainThread implements MainThread {
+        private final Handler handler = new Handler(Looper.getMainLooper());
+
+        @Override
+        public boolean isCurrentThread() {
+            return Looper.getMainLooper().getThread() == Thread.currentThread();
+        }
+
+        @Override
+        public void post(Runnable task) {
+            handler.post(task);
+        }
+
+        @Override
+        public void postDelayed(Runnable task, long delayMillis) {
+            handler.postDelayed(task, delayMillis);
+        }
+    }
+
+    private static class SharedPreferencesStore implements KeyValueStore {
+        private final SharedPreferences sp;
+
+        SharedPreferencesStore(SharedPreferences sp) {
+            this.sp = sp;
+        }
+
+        @Override
+        public String getString(String key, String defValue) {
+            return sp.getString(key, defValue);
+        }
+
+        @Override
+        public int getInt(String key, int defValue) {
+            return sp.getInt(key, defValue);
+        }
+
+        @Override
+        public Set<String> getStringSet(String key, Set<String> defValues) {
+            return sp.getStringSet(key, defValues);
+        }
+
+        @Override
+        public void putString(String key, String value) {
+            sp.edit().putString(key, value).apply();
+        }
+
+        @Override
+        public void putInt(String key, int value) {
+            sp.edit().putInt(key, value).apply();
+        }
+
+        @Override
+        public void putStringSet(String key, Set<String> values) {
+            sp.edit().putStringSet(key, values).apply();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.alibaba.android.arouter.platform;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding for plain JVM, used by tests and benchmarks.
+ * The main thread is a daemon thread which runs the posted tasks in order, and the stores are kept in memory.
+ * 用于JVM的平台实现，主线程为单独的守护线程，存储只保存在内存中
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public class JvmPlatform implements Platform {
+    private final MainThread mainThread = new ExecutorMainThread();
+    private final ConcurrentMap<String, KeyValueStore> stores = new ConcurrentHashMap<>();
+    private final UriParser uriParser = new PercentDecoder();
+
+    @Override
+    public MainThread getMainThread() {
+        return mainThread;
+    }
+
+    @Override
+    public KeyValueStore getKeyValueStore(String name) {
+        KeyValueStore store = stores.get(name);
+        if (null == store) {
+            KeyValueStore created = new MemoryStore();
+            store = stores.putIfAbsent(name, created);
+            if (null == store) {
+                store = created;
+            }
+        }
+        return store;
+    }
+
+    @Override
+    public UriParser getUriParser() {
+        return uriParser;
+    }
+
+    private static class ExecutorMainThread implements MainThread, ThreadFactory {
+        private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(this);
+        private volatile Thread thread;
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread created = new Thread(runnable, "ARouter main");
+            created.setDaemon(true);
+            thread = created;
+            return created;
+        }
+
+        @Override
+        public boolean isCurrentThread() {
+            return thread == Thread.currentThread();
+        }
+
+        @Override
+        public void post(Runnable task) {
+            executor.execute(task);
+        }
+
+        @Override
+        public void postDelayed(Runnable task, long delayMillis) {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static class MemoryStore implements KeyValueStore {
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        public String getString(String key, String defValue) {
+            Object value = values.get(key);
+            return value instanceof String ? (String) value : defValue;
+        }
+
+        @Override
+        public int getInt(String key, int defValue) {
+            Object value = values.get(key);
+            return value instanceof Integer ? (Integer) value : defValue;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Set<String> getStringSet(String key, Set<String> defValues) {
+            Object value = values.get(key);
+            return value instanceof Set ? (Set<String>) value : defValues;
+        }
+
+        @Override
+        public void putString(String key, String value) {
+            put(key, value);
+        }
+
+        @Override
+        public void putInt(String key, int value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void putStringSet(String key, Set<String> values) {
+            // Copy it as SharedPreferences does, the caller may modify the set later.
+            put(key, null == values ? null : Collections.unmodifiableSet(new HashSet<>(values)));
+        }
+
+        private void put(String key, Object value) {
+            if (null == value) {
+                values.remove(key);
+            } else {
+                values.put(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.alibaba.android.arouter.platform;
+
+import java.util.Set;
+
+/**
+ * Persistent key-value store, the put methods may be applied asynchronously.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public interface KeyValueStore {
+    String getString(String key, String defValue);
+
+    int getInt(String key, int defValue);
+
+    /**
+     * @return the set in store, don't modify it.
+     */
+    Set<String> getStringSet(String key, Set<String> defValues);
+
+    void putString(String key, String value);
+
+    void putInt(String key, int value);
+
+    void putStringSet(String key, Set<String> values);
+}
@@ -0,0 +1,27 @@
+package com.alibaba.android.arouter.platform;
+
+/**
+ * Main thread dispatcher.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public interface MainThread {
+    /**
+     * @return true if current thread is main thread.
+     */
+    boolean isCurrentThread();
+
+    /**
+     * Run the task in main thread later.
+     */
+    void post(Runnable task);
+
+    /**
+     * Run the task in main thread after delay.
+     *
+     * @param delayMillis delay, TimeUnit.Millisecond
+     */
+    void postDelayed(Runnable task, long delayMillis);
+}
@@ -0,0 +1,79 @@
+package com.alibaba.android.arouter.platform;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Decode like android.net.Uri.decode, used by JvmPlatform and before any platform bound.
+ * An invalid escape is replaced by U+FFFD, it consumes the '%' and the chars until the first non-hex one,
+ * so "%zz" is decoded as U+FFFD and "z", and an incomplete escape at the end as U+FFFD, same as UriCodec of android.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:40
+ */
+final class PercentDecoder implements UriParser {
+    private static final char INVALID = '\ufffd';
+
+    @Override
+    public String decode(String encoded) {
+        if (null == encoded || encoded.indexOf('%') == -1) {
+            return encoded;
+        }
+
+        int length = encoded.length();
+        StringBuilder sb = new StringBuilder(length);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int i = 0;
+        while (i < length) {
+            char c = encoded.charAt(i);
+            if (c != '%') {
+                flush(sb, bytes);
+                sb.append(c);
+                i++;
+                continue;
+            }
+
+            // Collect the continuous escaped octets, then decode them together.
+            if (i + 1 >= length) {
+                flush(sb, bytes);
+                sb.append(INVALID);
+                break;
+            }
+            int high = Character.digit(encoded.charAt(i + 1), 16);
+            if (high < 0) {
+                flush(sb, bytes);
+                sb.append(INVALID);
+                i += 2;
+                continue;
+            }
+            if (i + 2 >= length) {
+                flush(sb, bytes);
+                sb.append(INVALID);
+                break;
+            }
+            int low = Character.digit(encoded.charAt(i + 2), 16);
+            if (low < 0) {
+                flush(sb, bytes);
+                sb.append(INVALID);
+                i += 3;
+                continue;
+            }
+            bytes.write((high << 4) | low);
+            i += 3;
+        }
+        flush(sb, bytes);
+        return sb.toString();
+    }
+
+    private static void flush(StringBuilder sb, ByteArrayOutputStream bytes) {
+        if (bytes.size() > 0) {
+            try {
+                sb.append(bytes.toString("UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+            bytes.reset();
+        }
+    }
+}
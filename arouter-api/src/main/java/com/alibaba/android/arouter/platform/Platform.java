@@ -0,0 +1,25 @@
+package com.alibaba.android.arouter.platform;
+
+/**
+ * The services of platform which are used by routing core, android is the default binding.
+ * Bind another platform by ARouter.setPlatform before init, then the core can run on plain JVM, eg. {@link JvmPlatform}.
+ * 路由核心依赖的平台能力，默认使用Android实现
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public interface Platform {
+    /**
+     * @return dispatcher of main thread, the callbacks of navigation run on it.
+     */
+    MainThread getMainThread();
+
+    /**
+     * @param name name of store, like the name of SharedPreferences
+     * @return persistent key-value store
+     */
+    KeyValueStore getKeyValueStore(String name);
+
+    UriParser getUriParser();
+}
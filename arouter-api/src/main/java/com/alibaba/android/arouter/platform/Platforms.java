@@ -0,0 +1,85 @@
+package com.alibaba.android.arouter.platform;
+
+import android.content.Context;
+
+import com.alibaba.android.arouter.exception.InitException;
+
+/**
+ * Holder of the platform bound to routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public final class Platforms {
+    private static final UriParser DEFAULT_URI_PARSER = new PercentDecoder();
+    private static volatile Platform platform;
+    private static volatile MainThread defaultMainThread;
+
+    private Platforms() {
+    }
+
+    /**
+     * Bind platform, the former is covered.
+     */
+    public static void bind(Platform platform) {
+        if (null == platform) {
+            throw new IllegalArgumentException("Platform can't be null!");
+        }
+        Platforms.platform = platform;
+    }
+
+    public static boolean isBound() {
+        return null != platform;
+    }
+
+    /**
+     * @return platform bound, ARouter.init binds android if there's none.
+     */
+    public static Platform get() {
+        Platform bound = platform;
+        if (null == bound) {
+            throw new InitException("ARouter::Platform is not bound, invoke ARouter.init or ARouter.setPlatform first!");
+        }
+        return bound;
+    }
+
+    /**
+     * Uri parser works before ARouter.init, eg. for the deep links parsed in Application.onCreate.
+     *
+     * @return parser of platform bound, or the one decodes like android.net.Uri if there's none.
+     */
+    public static UriParser getUriParser() {
+        Platform bound = platform;
+        return null == bound ? DEFAULT_URI_PARSER : bound.getUriParser();
+    }
+
+    /**
+     * Main thread works before ARouter.init, eg. Postcard.withLargeObject on the postcard created directly.
+     *
+     * @return main thread of platform bound, or the main looper if there's none.
+     */
+    public static MainThread getMainThread() {
+        Platform bound = platform;
+        if (null != bound) {
+            return bound.getMainThread();
+        }
+
+        MainThread mainThread = defaultMainThread;
+        if (null == mainThread) {
+            // Created lazily, the main looper isn't touched unless it's used.
+            mainThread = defaultMainThread = new AndroidPlatform.LooperMainThread();
+        }
+        return mainThread;
+    }
+
+    /**
+     * Store works without ARouter.init, eg. LogisticsCenter.init is called directly.
+     *
+     * @return store of platform bound, or the SharedPreferences of context if there's none.
+     */
+    public static KeyValueStore getKeyValueStore(Context context, String name) {
+        Platform bound = platform;
+        return null == bound ? new AndroidPlatform(context).getKeyValueStore(name) : bound.getKeyValueStore(name);
+    }
+}
@@ -0,0 +1,18 @@
+package com.alibaba.android.arouter.platform;
+
+/**
+ * The part of uri parsing which is done by platform, the query of uri is split by routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:20
+ */
+public interface UriParser {
+    /**
+     * Decode the '%' escaped octets as UTF-8, '+' is not decoded.
+     *
+     * @param encoded encoded string
+     * @return decoded string, invalid octets are replaced by U+FFFD.
+     */
+    String decode(String encoded);
+}
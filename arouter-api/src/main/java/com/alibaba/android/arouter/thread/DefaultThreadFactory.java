@@ -2,8 +2,8 @@ package com.alibaba.android.arouter.thread;
 
 import android.support.annotation.NonNull;
 
-import com.alibaba.android.arouter.launcher.ARouter;
 import com.alibaba.android.arouter.utils.Consts;
+import com.alibaba.android.arouter.utils.LogUtils;
 
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -31,7 +31,7 @@ public class DefaultThreadFactory implements ThreadFactory {
 
     public Thread newThread(@NonNull Runnable runnable) {
         String threadName = namePrefix + threadNumber.getAndIncrement();
-        ARouter.logger.info(Consts.TAG, "Thread production, name is [" + threadName + "]");
+        LogUtils.info(Consts.TAG, "Thread production, name is [%s]", threadName);
         Thread thread = new Thread(group, runnable, threadName, 0);
         if (thread.isDaemon()) {   //设为非后台线程
             thread.setDaemon(false);
@@ -44,7 +44,7 @@ public class DefaultThreadFactory implements ThreadFactory {
         thread.setUncaughtExceptionHandler(new Thread.UncaughtExceptionHandler() {
             @Override
             public void uncaughtException(Thread thread, Throwable ex) {
-                ARouter.logger.info(Consts.TAG, "Running task appeared exception! Thread [" + thread.getName() + "], because [" + ex.getMessage() + "]");
+                LogUtils.info(Consts.TAG, "Running task appeared exception! Thread [%s], because [%s]", thread.getName(), ex.getMessage());
             }
         });
         return thread;
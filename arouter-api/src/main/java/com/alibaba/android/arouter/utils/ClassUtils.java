@@ -9,6 +9,7 @@ import android.content.pm.PackageManager;
 import android.os.Build;
 import android.util.Log;
 
+import com.alibaba.android.arouter.core.StartupReport;
 import com.alibaba.android.arouter.launcher.ARouter;
 import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
 
@@ -17,6 +18,7 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
@@ -58,7 +60,19 @@ public class ClassUtils {
      * @return 所有class的集合
      */
     public static Set<String> getFileNameByPackageName(Context context, final String packageName) throws PackageManager.NameNotFoundException, IOException, InterruptedException {
-        final Set<String> classNames = new HashSet<>();
+        return getFileNameByPackageName(context, packageName, null);
+    }
+
+    /**
+     * 通过指定包名，扫描包下面包含的所有的ClassName，并记录每个dex的扫描耗时
+     *
+     * @param context     U know
+     * @param packageName 包名
+     * @param report      record the cost of each dex, nullable
+     * @return 所有class的集合
+     */
+    public static Set<String> getFileNameByPackageName(Context context, final String packageName, final StartupReport report) throws PackageManager.NameNotFoundException, IOException, InterruptedException {
+        final Set<String> classNames = Collections.synchronizedSet(new HashSet<String>());
 
         List<String> paths = getSourcePaths(context);
         final CountDownLatch parserCtl = new CountDownLatch(paths.size());
@@ -68,6 +82,8 @@ public class ClassUtils {
                 @Override
                 public void run() {
                     DexFile dexfile = null;
+                    long begin = StartupReport.now();
+                    int count = 0;
 
                     try {
                         if (path.endsWith(EXTRACTED_SUFFIX)) {
@@ -82,6 +98,7 @@ public class ClassUtils {
                             String className = dexEntries.nextElement();
                             if (className.startsWith(packageName)) {
                                 classNames.add(className);
+                                count++;
                             }
                         }
                     } catch (Throwable ignore) {
@@ -94,6 +111,10 @@ public class ClassUtils {
                             }
                         }
 
+                        if (null != report) {
+                            report.recordDexScan(path, StartupReport.now() - begin, count);
+                        }
+
                         parserCtl.countDown();
                     }
                 }
@@ -3,7 +3,7 @@ package com.alibaba.android.arouter.utils;
 import android.text.TextUtils;
 import android.util.Log;
 
-import com.alibaba.android.arouter.facade.template.ILogger;
+import com.alibaba.android.arouter.facade.template.ILeveledLogger;
 
 /**
  * Default logger
@@ -12,11 +12,14 @@ import com.alibaba.android.arouter.facade.template.ILogger;
  * @version 1.0
  * @since 2015-12-08 21:44:10
  */
-public class DefaultLogger implements ILogger {
+public class DefaultLogger implements ILeveledLogger {
 
     private static boolean isShowLog = false;
     private static boolean isShowStackTrace = false;
     private static boolean isMonitorMode = false;
+    private static int minLevel = DEBUG;
+
+    private static final String EMPTY_EXT_INFO = "[ ] ";
 
     private String defaultTag = "ARouter";
 
@@ -32,6 +35,15 @@ public class DefaultLogger implements ILogger {
         isMonitorMode = showMonitor;
     }
 
+    /**
+     * Only print the message of level or above, when the log is shown.
+     *
+     * @param level DEBUG, INFO, WARN or ERROR
+     */
+    public void setMinLevel(int level) {
+        minLevel = level;
+    }
+
     public DefaultLogger() {
     }
 
@@ -41,39 +53,35 @@ public class DefaultLogger implements ILogger {
 
     @Override
     public void debug(String tag, String message) {
-        if (isShowLog) {
-            StackTraceElement stackTraceElement = Thread.currentThread().getStackTrace()[3];
-            Log.d(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo(stackTraceElement));
+        if (isLoggable(DEBUG)) {
+            Log.d(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo());
         }
     }
 
     @Override
     public void info(String tag, String message) {
-        if (isShowLog) {
-            StackTraceElement stackTraceElement = Thread.currentThread().getStackTrace()[3];
-            Log.i(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo(stackTraceElement));
+        if (isLoggable(INFO)) {
+            Log.i(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo());
         }
     }
 
     @Override
     public void warning(String tag, String message) {
-        if (isShowLog) {
-            StackTraceElement stackTraceElement = Thread.currentThread().getStackTrace()[3];
-            Log.w(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo(stackTraceElement));
+        if (isLoggable(WARN)) {
+            Log.w(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo());
         }
     }
 
     @Override
     public void error(String tag, String message) {
-        if (isShowLog) {
-            StackTraceElement stackTraceElement = Thread.currentThread().getStackTrace()[3];
-            Log.e(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo(stackTraceElement));
+        if (isLoggable(ERROR)) {
+            Log.e(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message + getExtInfo());
         }
     }
 
     @Override
     public void error(String tag, String message, Throwable e) {
-        if (isShowLog) {
+        if (isLoggable(ERROR)) {
             Log.e(TextUtils.isEmpty(tag) ? getDefaultTag() : tag, message, e);
         }
     }
@@ -82,11 +90,15 @@ public class DefaultLogger implements ILogger {
     @Override
     public void monitor(String message) {
         if (isShowLog && isMonitorMode()) {
-            StackTraceElement stackTraceElement = Thread.currentThread().getStackTrace()[3];
-            Log.d(defaultTag + "::monitor", message + getExtInfo(stackTraceElement));
+            Log.d(defaultTag + "::monitor", message + getExtInfo());
         }
     }
 
+    @Override
+    public boolean isLoggable(int level) {
+        return isShowLog && level >= minLevel;
+    }
+
     @Override
     public boolean isMonitorMode() {
         return isMonitorMode;
@@ -97,6 +109,31 @@ public class DefaultLogger implements ILogger {
         return defaultTag;
     }
 
+    /**
+     * Stack of caller is expensive, only walk the stack when it will be shown.
+     */
+    private static String getExtInfo() {
+        if (!isShowStackTrace) {
+            return EMPTY_EXT_INFO;
+        }
+
+        return getExtInfo(findCaller(Thread.currentThread().getStackTrace()));
+    }
+
+    /**
+     * Skip the frames of stack walking and logger, LogUtils may be between the caller and logger.
+     */
+    private static StackTraceElement findCaller(StackTraceElement[] stackTrace) {
+        for (int i = 0; i < stackTrace.length; i++) {
+            String className = stackTrace[i].getClassName();
+            if (!className.equals("dalvik.system.VMStack") && !className.equals(Thread.class.getName())
+                    && !className.equals(DefaultLogger.class.getName()) && !className.equals(LogUtils.class.getName())) {
+                return stackTrace[i];
+            }
+        }
+        return stackTrace[stackTrace.length - 1];
+    }
+
     public static String getExtInfo(StackTraceElement stackTraceElement) {
 
         String separator = " & ";
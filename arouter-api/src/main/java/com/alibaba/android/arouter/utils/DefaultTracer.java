@@ -0,0 +1,221 @@
+package com.alibaba.android.arouter.utils;
+
+import android.os.Build;
+import android.os.Trace;
+
+import com.alibaba.android.arouter.facade.template.INavigationTracer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Built-in tracer, record histogram of cost per route and stage,
+ * and mark the synchronous stages as sections of systrace.
+ * The paths may carry ids, like the templated routes, so the count of keys is bounded,
+ * the paths after the limit are recorded together as {@link #OTHERS}.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 19:30
+ */
+public class DefaultTracer implements INavigationTracer {
+    private static final String[] STAGE_NAMES = {"build", "pathReplace", "pretreatment", "resolve", "interceptors", "interceptor", "mainThread", "startActivity"};
+    private static final String[] SECTION_NAMES = new String[STAGE_NAMES.length];
+    private static final int DEFAULT_MAX_KEYS = 256;
+
+    /**
+     * Key of the paths recorded after the count of keys reaches the limit.
+     */
+    public static final String OTHERS = "(others)";
+
+    static {
+        for (int i = 0; i < STAGE_NAMES.length; i++) {
+            SECTION_NAMES[i] = "ARouter#" + STAGE_NAMES[i];
+        }
+    }
+
+    private final boolean systrace;
+    private final int maxKeys;
+    // Path or name of interceptor as key, histograms of stages as value.
+    private final ConcurrentMap<String, Histogram[]> histograms = new ConcurrentHashMap<>();
+
+    public DefaultTracer() {
+        this(true);
+    }
+
+    /**
+     * @param systrace mark the synchronous stages as sections of systrace, API 18+
+     */
+    public DefaultTracer(boolean systrace) {
+        this(systrace, DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * @param systrace mark the synchronous stages as sections of systrace, API 18+
+     * @param maxKeys  limit of paths and interceptors which have their own histograms
+     */
+    public DefaultTracer(boolean systrace, int maxKeys) {
+        this.systrace = systrace && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    @Override
+    public void begin(int stage, String path, Object subject) {
+        if (systrace && isSynchronous(stage)) {
+            Trace.beginSection(SECTION_NAMES[stage]);
+        }
+    }
+
+    @Override
+    public void end(int stage, String path, Object subject, long costNanos) {
+        if (systrace && isSynchronous(stage)) {
+            Trace.endSection();
+        }
+
+        String key = STAGE_INTERCEPTOR == stage && null != subject ? subject.getClass().getName() : path;
+        if (null == key) {
+            return;
+        }
+
+        Histogram[] stages = histograms.get(key);
+        if (null == stages && histograms.size() >= maxKeys) {
+            key = OTHERS;
+            stages = histograms.get(key);
+        }
+        if (null == stages) {
+            Histogram[] created = new Histogram[STAGE_NAMES.length];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new Histogram();
+            }
+            stages = histograms.putIfAbsent(key, created);
+            if (null == stages) {
+                stages = created;
+            }
+        }
+        stages[stage].record(costNanos);
+    }
+
+    /**
+     * Get histogram of stage.
+     *
+     * @param key   path of route, or class name of interceptor for STAGE_INTERCEPTOR, or OTHERS
+     * @param stage stage
+     * @return histogram, null if nothing recorded.
+     */
+    public Histogram getHistogram(String key, int stage) {
+        Histogram[] stages = histograms.get(key);
+        return null == stages || stages[stage].getCount() == 0 ? null : stages[stage];
+    }
+
+    /**
+     * Print the histograms, the most costly first.
+     */
+    public String dump() {
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Histogram[]> entry : histograms.entrySet()) {
+            for (int stage = 0; stage < STAGE_NAMES.length; stage++) {
+                Histogram histogram = entry.getValue()[stage];
+                if (histogram.getCount() > 0) {
+                    rows.add(new Row(entry.getKey() + " " + STAGE_NAMES[stage] + " " + histogram, histogram.getTotalNanos()));
+                }
+            }
+        }
+
+        Collections.sort(rows, new Comparator<Row>() {
+            @Override
+            public int compare(Row r1, Row r2) {
+                return r1.totalNanos == r2.totalNanos ? 0 : (r1.totalNanos > r2.totalNanos ? -1 : 1);
+            }
+        });
+
+        StringBuilder sb = new StringBuilder();
+        for (Row row : rows) {
+            sb.append(row.text).append("\n");
+        }
+        return sb.toString();
+    }
+
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static class Row {
+        private final String text;
+        private final long totalNanos;
+
+        Row(String text, long totalNanos) {
+            this.text = text;
+            this.totalNanos = totalNanos;
+        }
+    }
+
+    private static boolean isSynchronous(int stage) {
+        return STAGE_INTERCEPTORS != stage && STAGE_INTERCEPTOR != stage && STAGE_MAIN_THREAD != stage;
+    }
+
+    /**
+     * Histogram of cost, bucket i contains the cost in [2^i, 2^(i+1)) microseconds.
+     */
+    public static class Histogram {
+        private static final int BUCKETS = 32;
+
+        private final long[] buckets = new long[BUCKETS];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void record(long costNanos) {
+            long micros = Math.max(costNanos / 1000, 1);
+            int bucket = Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+            buckets[bucket]++;
+            count++;
+            totalNanos += costNanos;
+            maxNanos = Math.max(maxNanos, costNanos);
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Estimate the percentile by upper bound of bucket.
+         *
+         * @param percent 0 - 100
+         * @return cost, TimeUnit.Microsecond
+         */
+        public synchronized long percentileMicros(double percent) {
+            long target = (long) Math.ceil(count * percent / 100);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets[i];
+                if (seen >= target && seen > 0) {
+                    return 1L << (i + 1);
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "count=" + count +
+                    ", avg=" + (0 == count ? 0 : totalNanos / count / 1000) + "us" +
+                    ", p50<" + percentileMicros(50) + "us" +
+                    ", p90<" + percentileMicros(90) + "us" +
+                    ", p99<" + percentileMicros(99) + "us" +
+                    ", max=" + maxNanos / 1000 + "us";
+        }
+    }
+}
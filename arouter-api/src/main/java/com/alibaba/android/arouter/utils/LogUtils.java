@@ -0,0 +1,66 @@
+package com.alibaba.android.arouter.utils;
+
+import com.alibaba.android.arouter.facade.template.ILeveledLogger;
+import com.alibaba.android.arouter.facade.template.ILogger;
+import com.alibaba.android.arouter.launcher.ARouter;
+
+import java.util.Locale;
+
+/**
+ * Lazily formatted log, the message will be formatted only if it will be printed.
+ * Fixed count of args, no array will be created for varargs.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 20:10
+ */
+public final class LogUtils {
+
+    private LogUtils() {
+    }
+
+    /**
+     * Whether the message of level will be printed.
+     * Always true for the logger which is not ILeveledLogger, we can't tell.
+     *
+     * @param level ILeveledLogger.DEBUG, INFO, WARN or ERROR
+     */
+    public static boolean isLoggable(int level) {
+        ILogger logger = ARouter.logger;
+        if (null == logger) {
+            return false;
+        }
+
+        return !(logger instanceof ILeveledLogger) || ((ILeveledLogger) logger).isLoggable(level);
+    }
+
+    public static void debug(String tag, String format, Object arg0, Object arg1) {
+        if (isLoggable(ILeveledLogger.DEBUG)) {
+            ARouter.logger.debug(tag, String.format(Locale.getDefault(), format, arg0, arg1));
+        }
+    }
+
+    public static void debug(String tag, String format, Object arg0, Object arg1, Object arg2) {
+        if (isLoggable(ILeveledLogger.DEBUG)) {
+            ARouter.logger.debug(tag, String.format(Locale.getDefault(), format, arg0, arg1, arg2));
+        }
+    }
+
+    public static void info(String tag, String format, Object arg0) {
+        if (isLoggable(ILeveledLogger.INFO)) {
+            ARouter.logger.info(tag, String.format(Locale.getDefault(), format, arg0));
+        }
+    }
+
+    public static void info(String tag, String format, Object arg0, Object arg1) {
+        if (isLoggable(ILeveledLogger.INFO)) {
+            ARouter.logger.info(tag, String.format(Locale.getDefault(), format, arg0, arg1));
+        }
+    }
+
+    public static void warning(String tag, String format, Object arg0) {
+        if (isLoggable(ILeveledLogger.WARN)) {
+            ARouter.logger.warning(tag, String.format(Locale.getDefault(), format, arg0));
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.alibaba.android.arouter.utils;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 
+import com.alibaba.android.arouter.platform.KeyValueStore;
+import com.alibaba.android.arouter.platform.Platforms;
+
 import static com.alibaba.android.arouter.launcher.ARouter.logger;
 import static com.alibaba.android.arouter.utils.Consts.AROUTER_SP_CACHE_KEY;
 import static com.alibaba.android.arouter.utils.Consts.LAST_VERSION_CODE;
@@ -27,8 +29,8 @@ public class PackageUtils {
             String versionName = packageInfo.versionName;
             int versionCode = packageInfo.versionCode;
 
-            SharedPreferences sp = context.getSharedPreferences(AROUTER_SP_CACHE_KEY, Context.MODE_PRIVATE);
-            if (!versionName.equals(sp.getString(LAST_VERSION_NAME, null)) || versionCode != sp.getInt(LAST_VERSION_CODE, -1)) {
+            KeyValueStore store = Platforms.getKeyValueStore(context, AROUTER_SP_CACHE_KEY);
+            if (!versionName.equals(store.getString(LAST_VERSION_NAME, null)) || versionCode != store.getInt(LAST_VERSION_CODE, -1)) {
                 // new version
                 NEW_VERSION_NAME = versionName;
                 NEW_VERSION_CODE = versionCode;
@@ -43,9 +45,10 @@ public class PackageUtils {
     }
 
     public static void updateVersion(Context context) {
-        if (!android.text.TextUtils.isEmpty(NEW_VERSION_NAME) && NEW_VERSION_CODE != 0) {
-            SharedPreferences sp = context.getSharedPreferences(AROUTER_SP_CACHE_KEY, Context.MODE_PRIVATE);
-            sp.edit().putString(LAST_VERSION_NAME, NEW_VERSION_NAME).putInt(LAST_VERSION_CODE, NEW_VERSION_CODE).apply();
+        if (!TextUtils.isEmpty(NEW_VERSION_NAME) && NEW_VERSION_CODE != 0) {
+            KeyValueStore store = Platforms.getKeyValueStore(context, AROUTER_SP_CACHE_KEY);
+            store.putString(LAST_VERSION_NAME, NEW_VERSION_NAME);
+            store.putInt(LAST_VERSION_CODE, NEW_VERSION_CODE);
         }
     }
 
@@ -0,0 +1,79 @@
+package com.alibaba.android.arouter.utils;
+
+import com.alibaba.android.arouter.core.HandoffStore;
+import com.alibaba.android.arouter.facade.service.BinarySerializationService;
+import com.alibaba.android.arouter.facade.service.SerializationService;
+import com.alibaba.android.arouter.launcher.ARouter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Parse object param, which put by Postcard.withObject, used by generated syringe.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 15:48
+ */
+public final class PayloadUtils {
+
+    private PayloadUtils() {
+    }
+
+    /**
+     * Parse object from payload in extras, the large object will be held by owner.
+     *
+     * @param owner       activity or fragment which need the object
+     * @param payload     value in extras, json string, bytes or token of large object.
+     * @param type        object type
+     * @param jsonService service for json, maybe null.
+     * @return instance of object, null if it can't be parsed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T parseObject(Object owner, Object payload, Type type, SerializationService jsonService) {
+        if (HandoffStore.isToken(payload)) {
+            Object value = HandoffStore.acquire((HandoffStore.Token) payload, owner);
+            if (null == value) {
+                warning("The large object [" + payload + "] has been evicted, or it was put in other process!");
+            }
+            return (T) value;
+        }
+
+        return parseObject(payload, type, jsonService);
+    }
+
+    /**
+     * Parse object from payload in extras.
+     *
+     * @param payload     value in extras, json string or bytes.
+     * @param type        object type
+     * @param jsonService service for json, maybe null.
+     * @return instance of object, null if it can't be parsed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T parseObject(Object payload, Type type, SerializationService jsonService) {
+        if (null == payload) {
+            return null;
+        }
+
+        if (payload instanceof byte[]) {
+            BinarySerializationService binaryService = ARouter.getInstance().navigation(BinarySerializationService.class);
+            if (null != binaryService) {
+                return binaryService.parseObject((byte[]) payload, type);
+            }
+            warning("You want automatic inject the object param, then you should implement 'BinarySerializationService' to support binary object!");
+        } else if (payload instanceof String) {
+            if (null != jsonService) {
+                return jsonService.parseObject((String) payload, type);
+            }
+            warning("You want automatic inject the object param, then you should implement 'SerializationService' to support object auto inject!");
+        }
+
+        return null;
+    }
+
+    private static void warning(String message) {
+        if (null != ARouter.logger) {
+            ARouter.logger.warning(Consts.TAG, message);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.alibaba.android.arouter.utils;
 
 import android.net.Uri;
 
+import com.alibaba.android.arouter.platform.Platforms;
+
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -56,9 +58,9 @@ public class TextUtils {
 
             String name = query.substring(start, separator);
 
-            if (!android.text.TextUtils.isEmpty(name)) {
+            if (!isEmpty(name)) {
                 String value = (separator == end ? "" : query.substring(separator + 1, end));
-                paramMap.put(Uri.decode(name), Uri.decode(value));
+                paramMap.put(decode(name), decode(value));
             }
 
             // Move start to end of name.
@@ -68,6 +70,77 @@ public class TextUtils {
         return Collections.unmodifiableMap(paramMap);
     }
 
+    /**
+     * Find the name of query parameter in names, without decoding or copying it if possible.
+     *
+     * @param query encoded query
+     * @param start start of name, inclusive
+     * @param end   end of name, exclusive
+     * @param names names want to find, not encoded
+     * @return index in names, -1 if not found
+     */
+    public static int indexOfQueryName(String query, int start, int end, String[] names) {
+        int length = end - start;
+        if (length <= 0) {
+            return -1;
+        }
+
+        if (hasEscape(query, start, end)) {
+            // Encoded name is rare, decode it and compare.
+            String name = decode(query.substring(start, end));
+            for (int i = 0; i < names.length; i++) {
+                if (name.equals(names[i])) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && query.regionMatches(start, name, 0, length)) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Whether there is escaped char in [start, end) of query, scan only the range.
+     */
+    private static boolean hasEscape(String query, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (query.charAt(i) == '%') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get decoded value of query parameter, decode only if it contains escaped char.
+     *
+     * @param query encoded query
+     * @param start start of value, inclusive
+     * @param end   end of value, exclusive
+     * @return decoded value
+     */
+    public static String decodeQueryValue(String query, int start, int end) {
+        if (start >= end) {
+            return "";
+        }
+
+        String value = query.substring(start, end);
+        return hasEscape(query, start, end) ? decode(value) : value;
+    }
+
+    /**
+     * Decode by the uri parser of platform, or the default one if it's not bound yet.
+     */
+    private static String decode(String encoded) {
+        return Platforms.getUriParser().decode(encoded);
+    }
+
     /**
      * Split key with |
      *
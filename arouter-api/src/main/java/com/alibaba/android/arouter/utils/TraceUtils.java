@@ -0,0 +1,44 @@
+package com.alibaba.android.arouter.utils;
+
+import com.alibaba.android.arouter.facade.template.INavigationTracer;
+import com.alibaba.android.arouter.launcher.ARouter;
+
+/**
+ * Report stages of navigation to the tracer, do nothing and allocate nothing if there is no tracer.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 19:30
+ */
+public final class TraceUtils {
+
+    private TraceUtils() {
+    }
+
+    /**
+     * Stage begin.
+     *
+     * @return begin time, pass it to {@link #end}; 0 if there is no tracer.
+     */
+    public static long begin(int stage, String path, Object subject) {
+        INavigationTracer tracer = ARouter.tracer;
+        if (null == tracer) {
+            return 0;
+        }
+
+        tracer.begin(stage, path, subject);
+        return System.nanoTime();
+    }
+
+    /**
+     * Stage end.
+     *
+     * @param begin time returned by {@link #begin}
+     */
+    public static void end(int stage, String path, Object subject, long begin) {
+        INavigationTracer tracer = ARouter.tracer;
+        if (null != tracer && 0 != begin) {
+            tracer.end(stage, path, subject, System.nanoTime() - begin);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.alibaba.android.arouter.core;
+
+import android.os.Bundle;
+
+import com.alibaba.android.arouter.facade.template.ISyringe;
+
+/**
+ * Same as the code generated by arouter-compiler for AutowireTarget.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+public class AutowireTarget$$ARouter$$Autowired implements ISyringe {
+    @Override
+    public void inject(Object target) {
+        AutowireTarget substitute = (AutowireTarget) target;
+        Bundle extras = substitute.getArguments();
+        if (null == extras) {
+            extras = Bundle.EMPTY;
+        }
+        substitute.age = extras.getInt("age", substitute.age);
+        substitute.id = extras.getLong("id", substitute.id);
+        substitute.vip = extras.getBoolean("vip", substitute.vip);
+        substitute.score = extras.getDouble("score", substitute.score);
+        substitute.name = extras.getString("name", substitute.name);
+        substitute.from = extras.getString("from", substitute.from);
+    }
+}
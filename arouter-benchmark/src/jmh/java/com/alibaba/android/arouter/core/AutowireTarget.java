@@ -0,0 +1,19 @@
+package com.alibaba.android.arouter.core;
+
+import android.support.v4.app.Fragment;
+
+/**
+ * Target of autowire benchmark, its syringe is written as the generated one.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+public class AutowireTarget extends Fragment {
+    int age;
+    long id;
+    boolean vip;
+    double score;
+    String name;
+    String from;
+}
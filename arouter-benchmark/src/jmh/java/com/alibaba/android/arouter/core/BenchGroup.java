@@ -0,0 +1,34 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+
+import java.util.Map;
+
+/**
+ * Same as the generated ARouter$$Group$$xxx, a new RouteMeta is built for every route.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+public class BenchGroup implements IRouteGroup {
+    static final String NAME = "bench";
+    private static volatile String[] paths = new String[0];   // Constants in generated code, so they are built before loading.
+
+    static void resize(int size) {
+        String[] created = new String[size];
+        for (int i = 0; i < size; i++) {
+            created[i] = "/" + NAME + "/page" + i;
+        }
+        paths = created;
+    }
+
+    @Override
+    public void loadInto(Map<String, RouteMeta> atlas) {
+        for (String path : paths) {
+            atlas.put(path, RouteMeta.build(RouteType.ACTIVITY, BenchGroup.class, path, NAME, null, -1, Integer.MIN_VALUE));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.alibaba.android.arouter.core;
+
+import android.content.Context;
+
+/**
+ * Provider for benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+public class BenchProvider implements BenchService {
+    @Override
+    public void init(Context context) {
+    }
+
+    @Override
+    public int value() {
+        return 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
+
+/**
+ * Routes for benchmarks, like '/g5/page512', 100 routes per group.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+final class BenchRoutes {
+    static final int ROUTES_PER_GROUP = 100;
+
+    private BenchRoutes() {
+    }
+
+    static String group(int index) {
+        return "g" + index / ROUTES_PER_GROUP;
+    }
+
+    static String path(int index) {
+        return "/" + group(index) + "/page" + index;
+    }
+
+    static RouteMeta meta(int index) {
+        return RouteMeta.build(RouteType.ACTIVITY, BenchRoutes.class, path(index), group(index), -1, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Create an engine, then put the routes as loaded.
+     *
+     * @param count count of routes
+     */
+    static RouterEngine load(int count) {
+        RouterEngine engine = new RouterEngine(DefaultPoolExecutor.getInstance());
+        for (int i = 0; i < count; i++) {
+            RouteMeta meta = meta(i);
+            engine.warehouse.routes.put(meta.getPath(), meta);
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,14 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.template.IProvider;
+
+/**
+ * Provider interface for benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:50
+ */
+public interface BenchService extends IProvider {
+    int value();
+}
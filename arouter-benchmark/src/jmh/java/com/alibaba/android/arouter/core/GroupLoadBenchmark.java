@@ -0,0 +1,52 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold load of a group by addRouteGroupDynamic, as the first navigation to the group.
+ * The warehouse is reset before every invocation, it's excluded from the result.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroupLoadBenchmark {
+    @Param({"10", "100", "1000"})
+    int routesPerGroup;
+
+    private RouterEngine engine;
+
+    @Setup
+    public void setUpTrial() {
+        BenchGroup.resize(routesPerGroup);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        engine = new RouterEngine(DefaultPoolExecutor.getInstance());
+        engine.warehouse.groupsIndex.put(BenchGroup.NAME, BenchGroup.class);
+    }
+
+    @Benchmark
+    public Map<String, RouteMeta> addRouteGroupDynamic() throws Exception {
+        engine.addRouteGroupDynamic(BenchGroup.NAME, null);
+        return engine.warehouse.routes;
+    }
+}
@@ -0,0 +1,64 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.callback.InterceptorCallback;
+import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of interceptor chain in RouterEngine, include the switch to the pool thread.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InterceptorBenchmark {
+    @Param({"0", "1", "5", "20"})
+    int interceptors;
+
+    private RouterEngine engine;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        engine = new RouterEngine(DefaultPoolExecutor.getInstance());
+        for (int i = 0; i < interceptors; i++) {
+            engine.warehouse.interceptorsIndex.put(i, PassInterceptor.class);
+        }
+
+        engine.initInterceptors();
+        doInterceptions();      // Wait for initialization of interceptors.
+    }
+
+    @Benchmark
+    public Postcard doInterceptions() throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+        Postcard postcard = new Postcard("/bench/page", "bench");
+        engine.doInterceptions(postcard, new InterceptorCallback() {
+            @Override
+            public void onContinue(Postcard postcard) {
+                done.countDown();
+            }
+
+            @Override
+            public void onInterrupt(Throwable exception) {
+                done.countDown();
+            }
+        });
+        done.await();
+        return postcard;
+    }
+}
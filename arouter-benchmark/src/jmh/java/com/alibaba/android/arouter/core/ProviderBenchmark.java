@@ -0,0 +1,50 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.thread.DefaultPoolExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provider lookup, same steps as ARouter.getInstance().navigation(Class) after the provider is created.
+ * _ARouter needs Looper of main thread, so the steps are called here directly.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProviderBenchmark {
+    private RouterEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new RouterEngine(DefaultPoolExecutor.getInstance());
+        RouteMeta meta = RouteMeta.build(RouteType.PROVIDER, BenchProvider.class, "/bench/provider", "bench", -1, Integer.MIN_VALUE);
+        engine.warehouse.providersIndex.put(BenchService.class.getName(), meta);
+        engine.warehouse.routes.put(meta.getPath(), meta);
+    }
+
+    @Benchmark
+    public BenchService navigationByClass() {
+        Postcard postcard = engine.buildProvider(BenchService.class.getName());
+        if (null == postcard) {
+            return null;
+        }
+
+        engine.resolve(postcard);
+        return (BenchService) postcard.getProvider();
+    }
+}
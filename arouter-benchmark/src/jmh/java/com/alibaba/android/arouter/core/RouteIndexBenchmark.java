@@ -0,0 +1,58 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prefix queries over loaded routes, by the radix tree index or by scanning.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteIndexBenchmark {
+    @Param({"1000", "10000"})
+    int routes;
+
+    @Param({"true", "false"})
+    boolean indexed;
+
+    private RouterEngine engine;
+    private String child;
+    private String group;
+
+    @Setup
+    public void setUp() {
+        engine = BenchRoutes.load(routes);
+        if (indexed) {
+            engine.openRouteIndex();
+        }
+
+        child = BenchRoutes.path(routes / 2) + "/detail/more";
+        group = "/" + BenchRoutes.group(routes / 2);
+    }
+
+    @Benchmark
+    public RouteMeta findNearestRoute() {
+        return engine.findNearestRoute(child);
+    }
+
+    @Benchmark
+    public List<RouteMeta> findRoutes() {
+        return engine.findRoutes(group);
+    }
+}
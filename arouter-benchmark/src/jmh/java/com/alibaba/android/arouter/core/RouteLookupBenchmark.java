@@ -0,0 +1,56 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup in routes of engine, and resolve the postcard of loaded route or missing route.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteLookupBenchmark {
+    @Param({"100", "1000", "10000"})
+    int routes;
+
+    private RouterEngine engine;
+    private String hitPath;
+    private String hitGroup;
+
+    @Setup
+    public void setUp() {
+        engine = BenchRoutes.load(routes);
+        hitPath = BenchRoutes.path(routes / 2);
+        hitGroup = BenchRoutes.group(routes / 2);
+    }
+
+    @Benchmark
+    public RouteMeta warehouseGet() {
+        return engine.warehouse.routes.get(hitPath);
+    }
+
+    @Benchmark
+    public RouteResolution resolveHit() {
+        return engine.resolve(new Postcard(hitPath, hitGroup));
+    }
+
+    @Benchmark
+    public RouteResolution resolveMiss() {
+        return engine.resolve(new Postcard("/missing/page", "missing"));
+    }
+}
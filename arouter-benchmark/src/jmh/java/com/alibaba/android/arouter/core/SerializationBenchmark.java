@@ -0,0 +1,125 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.fastjson.JSON;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload of withObject, json string by SerializationService or bytes by BinarySerializationService.
+ * Fastjson is used as the demo app, bytes are written by hand as protobuf or kryo would do.
+ * The payloads are from 1 KB to 500 KB in json.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"1", "10", "100", "500"})
+    int kilobytes;
+
+    private Order order;
+    private String json;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        order = new Order();
+        order.id = 12345L;
+        order.buyer = "ARouter";
+        order.items = new ArrayList<>();
+        // Item is about 40 bytes in json.
+        for (int i = 0; i < kilobytes * 1024 / 40; i++) {
+            Item item = new Item();
+            item.sku = "sku-" + i;
+            item.count = i;
+            item.price = i * 1.5;
+            order.items.add(item);
+        }
+
+        json = JSON.toJSONString(order);
+        bytes = Order.toBytes(order);
+    }
+
+    @Benchmark
+    public String jsonWrite() {
+        return JSON.toJSONString(order);
+    }
+
+    @Benchmark
+    public Order jsonRead() {
+        return JSON.parseObject(json, Order.class);
+    }
+
+    @Benchmark
+    public byte[] binaryWrite() throws IOException {
+        return Order.toBytes(order);
+    }
+
+    @Benchmark
+    public Order binaryRead() throws IOException {
+        return Order.fromBytes(bytes);
+    }
+
+    public static class Order {
+        public long id;
+        public String buyer;
+        public List<Item> items;
+
+        static byte[] toBytes(Order order) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeLong(order.id);
+            out.writeUTF(order.buyer);
+            out.writeInt(order.items.size());
+            for (Item item : order.items) {
+                out.writeUTF(item.sku);
+                out.writeInt(item.count);
+                out.writeDouble(item.price);
+            }
+            out.flush();
+            return buffer.toByteArray();
+        }
+
+        static Order fromBytes(byte[] bytes) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            Order order = new Order();
+            order.id = in.readLong();
+            order.buyer = in.readUTF();
+            int size = in.readInt();
+            order.items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Item item = new Item();
+                item.sku = in.readUTF();
+                item.count = in.readInt();
+                item.price = in.readDouble();
+                order.items.add(item);
+            }
+            return order;
+        }
+    }
+
+    public static class Item {
+        public String sku;
+        public int count;
+        public double price;
+    }
+}
@@ -0,0 +1,81 @@
+package com.alibaba.android.arouter.core;
+
+import android.net.Uri;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.enums.TypeKind;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.platform.JvmPlatform;
+import com.alibaba.android.arouter.platform.Platforms;
+import com.alibaba.android.arouter.utils.TextUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completion of deep link with query params, with or without UriCache,
+ * and splitQueryParameters which was used to parse the query before.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UriCompletionBenchmark {
+    private static final String PATH = "/bench/detail";
+
+    @Param({"0", "64"})
+    int uriCache;
+
+    private Uri uri;
+    private RouterEngine engine;
+
+    @Setup
+    public void setUp() {
+        Platforms.bind(new JvmPlatform());
+        engine = RouterEngine.getDefault();    // Uri cache only works for the default engine.
+        engine.clear();
+        UriCache.open(uriCache);
+
+        Map<String, Integer> paramsType = new HashMap<>();
+        paramsType.put("id", TypeKind.LONG.ordinal());
+        paramsType.put("name", TypeKind.STRING.ordinal());
+        paramsType.put("vip", TypeKind.BOOLEAN.ordinal());
+        paramsType.put("score", TypeKind.DOUBLE.ordinal());
+        engine.warehouse.routes.put(PATH, RouteMeta.build(RouteType.ACTIVITY, BenchRoutes.class, PATH, "bench", paramsType, -1, Integer.MIN_VALUE));
+
+        uri = Uri.parse("arouter://m.aliyun.com" + PATH + "?id=12345&name=%E4%BD%A0%E5%A5%BD&vip=true&score=4.5&utm_source=push&utm_campaign=spring");
+    }
+
+    @TearDown
+    public void tearDown() {
+        UriCache.open(0);
+        engine.clear();
+    }
+
+    @Benchmark
+    public Postcard resolveUri() {
+        Postcard postcard = new Postcard(PATH, "bench", uri, null);
+        engine.resolve(postcard);
+        return postcard;
+    }
+
+    @Benchmark
+    public Map<String, String> splitQueryParameters() {
+        return TextUtils.splitQueryParameters(uri);
+    }
+}
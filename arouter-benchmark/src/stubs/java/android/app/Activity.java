@@ -0,0 +1,32 @@
+package android.app;
+
+import android.content.Context;
+import android.content.Intent;
+
+/**
+ * JVM stand-in of android.app.Activity, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Activity extends Context {
+    public Intent getIntent() {
+        throw new UnsupportedOperationException();
+    }
+
+    public void startActivityForResult(Intent intent, int requestCode) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void overridePendingTransition(int enterAnim, int exitAnim) {
+    }
+
+    public boolean isFinishing() {
+        return false;
+    }
+
+    public boolean isChangingConfigurations() {
+        return false;
+    }
+}
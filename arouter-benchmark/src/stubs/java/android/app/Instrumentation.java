@@ -0,0 +1,16 @@
+package android.app;
+
+import android.content.Intent;
+
+/**
+ * JVM stand-in of android.app.Instrumentation, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Instrumentation {
+    public Activity newActivity(ClassLoader cl, String className, Intent intent) throws InstantiationException, IllegalAccessException, ClassNotFoundException {
+        return (Activity) cl.loadClass(className).newInstance();
+    }
+}
@@ -0,0 +1,35 @@
+package android.content;
+
+import android.content.pm.PackageManager;
+
+/**
+ * JVM stand-in of android.content.Context, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Context {
+    public static final int MODE_PRIVATE = 0;
+    public static final int MODE_MULTI_PROCESS = 4;
+
+    public SharedPreferences getSharedPreferences(String name, int mode) {
+        throw new UnsupportedOperationException();
+    }
+
+    public PackageManager getPackageManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    public String getPackageName() {
+        throw new UnsupportedOperationException();
+    }
+
+    public Context getApplicationContext() {
+        return this;
+    }
+
+    public void startActivity(Intent intent) {
+        throw new UnsupportedOperationException();
+    }
+}
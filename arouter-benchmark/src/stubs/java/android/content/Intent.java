@@ -0,0 +1,60 @@
+package android.content;
+
+import android.os.Bundle;
+
+/**
+ * JVM stand-in of android.content.Intent, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Intent {
+    public static final int FLAG_ACTIVITY_NEW_TASK = 0x10000000;
+
+    private final Bundle extras = new Bundle();
+    private int flags;
+    private String action;
+
+    public Intent() {
+    }
+
+    public Intent(Context context, Class<?> cls) {
+    }
+
+    public Intent putExtras(Bundle extras) {
+        this.extras.putAll(extras);
+        return this;
+    }
+
+    public Bundle getExtras() {
+        return extras;
+    }
+
+    public String[] getStringArrayExtra(String name) {
+        return extras.getStringArray(name);
+    }
+
+    public Intent setFlags(int flags) {
+        this.flags = flags;
+        return this;
+    }
+
+    public Intent addFlags(int flags) {
+        this.flags |= flags;
+        return this;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public Intent setAction(String action) {
+        this.action = action;
+        return this;
+    }
+
+    public String getAction() {
+        return action;
+    }
+}
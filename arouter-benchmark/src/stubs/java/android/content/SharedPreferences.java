@@ -0,0 +1,32 @@
+package android.content;
+
+import java.util.Set;
+
+/**
+ * JVM stand-in of android.content.SharedPreferences, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public interface SharedPreferences {
+    Editor edit();
+
+    Set<String> getStringSet(String key, Set<String> defValues);
+
+    String getString(String key, String defValue);
+
+    int getInt(String key, int defValue);
+
+    interface Editor {
+        Editor putStringSet(String key, Set<String> values);
+
+        Editor putString(String key, String value);
+
+        Editor putInt(String key, int value);
+
+        void apply();
+
+        boolean commit();
+    }
+}
@@ -0,0 +1,15 @@
+package android.content.pm;
+
+/**
+ * JVM stand-in of android.content.pm.ApplicationInfo, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class ApplicationInfo {
+    public String sourceDir;
+    public String dataDir;
+    public String[] splitSourceDirs;
+    public String packageName;
+}
@@ -0,0 +1,13 @@
+package android.content.pm;
+
+/**
+ * JVM stand-in of android.content.pm.PackageInfo, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class PackageInfo {
+    public String versionName;
+    public int versionCode;
+}
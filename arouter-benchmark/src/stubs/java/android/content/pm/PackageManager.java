@@ -0,0 +1,23 @@
+package android.content.pm;
+
+/**
+ * JVM stand-in of android.content.pm.PackageManager, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class PackageManager {
+    public static final int GET_CONFIGURATIONS = 0x00004000;
+
+    public ApplicationInfo getApplicationInfo(String packageName, int flags) throws NameNotFoundException {
+        throw new NameNotFoundException();
+    }
+
+    public PackageInfo getPackageInfo(String packageName, int flags) throws NameNotFoundException {
+        throw new NameNotFoundException();
+    }
+
+    public static class NameNotFoundException extends Exception {
+    }
+}
@@ -0,0 +1,189 @@
+package android.net;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * JVM stand-in of android.net.Uri, functional for the routing core. Only hierarchical uri like scheme://host/path?query#fragment is parsed.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public abstract class Uri {
+    public static Uri parse(String uriString) {
+        return new StringUri(uriString);
+    }
+
+    public abstract String getScheme();
+
+    public abstract String getHost();
+
+    public abstract String getEncodedPath();
+
+    public abstract String getEncodedQuery();
+
+    public abstract String getFragment();
+
+    public String getPath() {
+        return decode(getEncodedPath());
+    }
+
+    public String getQuery() {
+        return decode(getEncodedQuery());
+    }
+
+    public String getQueryParameter(String key) {
+        String query = getEncodedQuery();
+        if (null == query) {
+            return null;
+        }
+
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator == -1 ? pair : pair.substring(0, separator);
+            if (decode(name).equals(key)) {
+                return separator == -1 ? "" : decode(pair.substring(separator + 1));
+            }
+        }
+        return null;
+    }
+
+    public Builder buildUpon() {
+        return new Builder(this);
+    }
+
+    /**
+     * Only path can be changed, it's not encoded.
+     */
+    public static final class Builder {
+        private final Uri uri;
+        private String path;
+
+        private Builder(Uri uri) {
+            this.uri = uri;
+            this.path = uri.getEncodedPath();
+        }
+
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        public Uri build() {
+            StringBuilder sb = new StringBuilder();
+            if (null != uri.getScheme()) {
+                sb.append(uri.getScheme()).append("://").append(uri.getHost());
+            }
+            sb.append(path);
+            if (null != uri.getEncodedQuery()) {
+                sb.append('?').append(uri.getEncodedQuery());
+            }
+            if (null != uri.getFragment()) {
+                sb.append('#').append(uri.getFragment());
+            }
+            return parse(sb.toString());
+        }
+    }
+
+    /**
+     * Decode '%xx' as UTF-8, '+' is not decoded, same as android.
+     */
+    public static String decode(String s) {
+        if (null == s || s.indexOf('%') == -1) {
+            return s;
+        }
+
+        Charset utf8 = Charset.forName("UTF-8");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(s.length());
+        int i = 0;
+        while (i < s.length()) {
+            if (s.charAt(i) == '%' && i + 2 < s.length()) {
+                bytes.write(Integer.parseInt(s.substring(i + 1, i + 3), 16));
+                i += 3;
+            } else {
+                int next = s.indexOf('%', i + 1);
+                next = next == -1 ? s.length() : next;
+                byte[] raw = s.substring(i, next).getBytes(utf8);
+                bytes.write(raw, 0, raw.length);
+                i = next;
+            }
+        }
+        return new String(bytes.toByteArray(), utf8);
+    }
+
+    private static final class StringUri extends Uri {
+        private final String uriString;
+        private final String scheme;
+        private final String host;
+        private final String path;
+        private final String query;
+        private final String fragment;
+
+        StringUri(String uriString) {
+            this.uriString = uriString;
+
+            String rest = uriString;
+            int hash = rest.indexOf('#');
+            fragment = hash == -1 ? null : rest.substring(hash + 1);
+            rest = hash == -1 ? rest : rest.substring(0, hash);
+
+            int question = rest.indexOf('?');
+            query = question == -1 ? null : rest.substring(question + 1);
+            rest = question == -1 ? rest : rest.substring(0, question);
+
+            int colon = rest.indexOf("://");
+            if (colon == -1) {
+                scheme = null;
+                host = null;
+                path = rest;
+            } else {
+                scheme = rest.substring(0, colon);
+                rest = rest.substring(colon + 3);
+                int slash = rest.indexOf('/');
+                host = slash == -1 ? rest : rest.substring(0, slash);
+                path = slash == -1 ? "" : rest.substring(slash);
+            }
+        }
+
+        @Override
+        public String getScheme() {
+            return scheme;
+        }
+
+        @Override
+        public String getHost() {
+            return host;
+        }
+
+        @Override
+        public String getEncodedPath() {
+            return path;
+        }
+
+        @Override
+        public String getEncodedQuery() {
+            return query;
+        }
+
+        @Override
+        public String getFragment() {
+            return fragment;
+        }
+
+        @Override
+        public String toString() {
+            return uriString;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StringUri && uriString.equals(((StringUri) o).uriString);
+        }
+
+        @Override
+        public int hashCode() {
+            return uriString.hashCode();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package android.os;
+
+import android.util.SparseArray;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JVM stand-in of android.os.Bundle, functional for the routing core. Values are kept in a map, nothing is parceled.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public final class Bundle implements Parcelable {
+    public static final Bundle EMPTY = new Bundle();
+
+    private final Map<String, Object> map;
+
+    public Bundle() {
+        map = new LinkedHashMap<>();
+    }
+
+    public Bundle(Bundle b) {
+        map = new LinkedHashMap<>(b.map);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean containsKey(String key) {
+        return map.containsKey(key);
+    }
+
+    public Object get(String key) {
+        return map.get(key);
+    }
+
+    public void remove(String key) {
+        map.remove(key);
+    }
+
+    public void putAll(Bundle bundle) {
+        map.putAll(bundle.map);
+    }
+
+    public Set<String> keySet() {
+        return map.keySet();
+    }
+
+    public void putBoolean(String key, boolean value) {
+        map.put(key, value);
+    }
+
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Boolean ? (Boolean) o : defaultValue;
+    }
+
+    public void putByte(String key, byte value) {
+        map.put(key, value);
+    }
+
+    public byte getByte(String key) {
+        return getByte(key, (byte) 0);
+    }
+
+    public byte getByte(String key, byte defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Byte ? (Byte) o : defaultValue;
+    }
+
+    public void putChar(String key, char value) {
+        map.put(key, value);
+    }
+
+    public char getChar(String key) {
+        return getChar(key, '\0');
+    }
+
+    public char getChar(String key, char defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Character ? (Character) o : defaultValue;
+    }
+
+    public void putShort(String key, short value) {
+        map.put(key, value);
+    }
+
+    public short getShort(String key) {
+        return getShort(key, (short) 0);
+    }
+
+    public short getShort(String key, short defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Short ? (Short) o : defaultValue;
+    }
+
+    public void putInt(String key, int value) {
+        map.put(key, value);
+    }
+
+    public int getInt(String key) {
+        return getInt(key, 0);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Integer ? (Integer) o : defaultValue;
+    }
+
+    public void putLong(String key, long value) {
+        map.put(key, value);
+    }
+
+    public long getLong(String key) {
+        return getLong(key, 0L);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Long ? (Long) o : defaultValue;
+    }
+
+    public void putFloat(String key, float value) {
+        map.put(key, value);
+    }
+
+    public float getFloat(String key) {
+        return getFloat(key, 0f);
+    }
+
+    public float getFloat(String key, float defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Float ? (Float) o : defaultValue;
+    }
+
+    public void putDouble(String key, double value) {
+        map.put(key, value);
+    }
+
+    public double getDouble(String key) {
+        return getDouble(key, 0d);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        Object o = map.get(key);
+        return o instanceof Double ? (Double) o : defaultValue;
+    }
+
+    public void putString(String key, String value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequence(String key, CharSequence value) {
+        map.put(key, value);
+    }
+
+    public void putParcelable(String key, Parcelable value) {
+        map.put(key, value);
+    }
+
+    public void putSerializable(String key, Serializable value) {
+        map.put(key, value);
+    }
+
+    public void putStringArray(String key, String[] value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequenceArray(String key, CharSequence[] value) {
+        map.put(key, value);
+    }
+
+    public void putParcelableArray(String key, Parcelable[] value) {
+        map.put(key, value);
+    }
+
+    public void putByteArray(String key, byte[] value) {
+        map.put(key, value);
+    }
+
+    public void putShortArray(String key, short[] value) {
+        map.put(key, value);
+    }
+
+    public void putCharArray(String key, char[] value) {
+        map.put(key, value);
+    }
+
+    public void putFloatArray(String key, float[] value) {
+        map.put(key, value);
+    }
+
+    public void putIntegerArrayList(String key, ArrayList<Integer> value) {
+        map.put(key, value);
+    }
+
+    public void putStringArrayList(String key, ArrayList<String> value) {
+        map.put(key, value);
+    }
+
+    public void putCharSequenceArrayList(String key, ArrayList<CharSequence> value) {
+        map.put(key, value);
+    }
+
+    public void putParcelableArrayList(String key, ArrayList<? extends Parcelable> value) {
+        map.put(key, value);
+    }
+
+    public void putSparseParcelableArray(String key, SparseArray<? extends Parcelable> value) {
+        map.put(key, value);
+    }
+
+    public void putBundle(String key, Bundle value) {
+        map.put(key, value);
+    }
+
+    public String getString(String key) {
+        Object o = map.get(key);
+        return o instanceof String ? (String) o : null;
+    }
+
+    public String getString(String key, String defaultValue) {
+        String s = getString(key);
+        return null == s ? defaultValue : s;
+    }
+
+    public CharSequence getCharSequence(String key) {
+        Object o = map.get(key);
+        return o instanceof CharSequence ? (CharSequence) o : null;
+    }
+
+    public Serializable getSerializable(String key) {
+        Object o = map.get(key);
+        return o instanceof Serializable ? (Serializable) o : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Parcelable> T getParcelable(String key) {
+        Object o = map.get(key);
+        return o instanceof Parcelable ? (T) o : null;
+    }
+
+    public String[] getStringArray(String key) {
+        Object o = map.get(key);
+        return o instanceof String[] ? (String[]) o : null;
+    }
+
+    public byte[] getByteArray(String key) {
+        Object o = map.get(key);
+        return o instanceof byte[] ? (byte[]) o : null;
+    }
+
+    @Override
+    public String toString() {
+        return "Bundle" + map;
+    }
+}
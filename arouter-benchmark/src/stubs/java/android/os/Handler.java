@@ -0,0 +1,26 @@
+package android.os;
+
+/**
+ * JVM stand-in of android.os.Handler, functional for the routing core. Runnable is run in the caller thread.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Handler {
+    public Handler(Looper looper) {
+    }
+
+    public boolean post(Runnable r) {
+        r.run();
+        return true;
+    }
+
+    public boolean postDelayed(Runnable r, long delayMillis) {
+        r.run();
+        return true;
+    }
+
+    public void removeCallbacks(Runnable r) {
+    }
+}
@@ -0,0 +1,30 @@
+package android.os;
+
+/**
+ * JVM stand-in of android.os.Looper, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public final class Looper {
+    private static final Looper MAIN = new Looper(Thread.currentThread());
+
+    private final Thread thread;
+
+    private Looper(Thread thread) {
+        this.thread = thread;
+    }
+
+    public static Looper getMainLooper() {
+        return MAIN;
+    }
+
+    public static Looper myLooper() {
+        return Thread.currentThread() == MAIN.thread ? MAIN : null;
+    }
+
+    public Thread getThread() {
+        return thread;
+    }
+}
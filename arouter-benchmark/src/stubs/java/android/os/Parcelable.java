@@ -0,0 +1,11 @@
+package android.os;
+
+/**
+ * JVM stand-in of android.os.Parcelable, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public interface Parcelable {
+}
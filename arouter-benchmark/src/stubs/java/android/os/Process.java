@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * JVM stand-in of android.os.Process, functional for the routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Process {
+    public static int myPid() {
+        return 1;
+    }
+}
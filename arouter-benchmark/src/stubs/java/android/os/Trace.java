@@ -0,0 +1,19 @@
+package android.os;
+
+/**
+ * JVM stand-in of android.os.Trace, functional for the routing core. Sections are ignored.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public final class Trace {
+    private Trace() {
+    }
+
+    public static void beginSection(String sectionName) {
+    }
+
+    public static void endSection() {
+    }
+}
@@ -0,0 +1,11 @@
+package android.support.annotation;
+
+/**
+ * JVM stand-in of android.support.annotation.Nullable, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public @interface Nullable {
+}
@@ -0,0 +1,23 @@
+package android.support.v4.app;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+
+/**
+ * JVM stand-in of android.support.v4.app.ActivityCompat, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class ActivityCompat {
+    public static void startActivityForResult(Activity activity, Intent intent, int requestCode, Bundle options) {
+        activity.startActivityForResult(intent, requestCode);
+    }
+
+    public static void startActivity(Context context, Intent intent, Bundle options) {
+        context.startActivity(intent);
+    }
+}
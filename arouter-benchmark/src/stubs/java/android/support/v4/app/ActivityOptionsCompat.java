@@ -0,0 +1,16 @@
+package android.support.v4.app;
+
+import android.os.Bundle;
+
+/**
+ * JVM stand-in of android.support.v4.app.ActivityOptionsCompat, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class ActivityOptionsCompat {
+    public Bundle toBundle() {
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package android.support.v4.app;
+
+import android.os.Bundle;
+
+/**
+ * JVM stand-in of android.support.v4.app.Fragment, functional for the routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class Fragment {
+    private Bundle arguments;
+
+    public FragmentActivity getActivity() {
+        return null;
+    }
+
+    public void setArguments(Bundle arguments) {
+        this.arguments = arguments;
+    }
+
+    public Bundle getArguments() {
+        return arguments;
+    }
+}
@@ -0,0 +1,13 @@
+package android.support.v4.app;
+
+import android.app.Activity;
+
+/**
+ * JVM stand-in of android.support.v4.app.FragmentActivity, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class FragmentActivity extends Activity {
+}
@@ -0,0 +1,14 @@
+package android.text;
+
+/**
+ * JVM stand-in of android.text.TextUtils, functional for the routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class TextUtils {
+    public static boolean isEmpty(CharSequence str) {
+        return null == str || str.length() == 0;
+    }
+}
@@ -0,0 +1,57 @@
+package android.util;
+
+/**
+ * JVM stand-in of android.util.Log, functional for the routing core. Print to System.err.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public final class Log {
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    private Log() {
+    }
+
+    public static int v(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int d(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int i(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int w(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int e(String tag, String msg) {
+        return println(tag, msg);
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        int length = println(tag, msg);
+        if (null != tr) {
+            tr.printStackTrace();
+        }
+        return length;
+    }
+
+    public static boolean isLoggable(String tag, int level) {
+        return true;
+    }
+
+    private static int println(String tag, String msg) {
+        String line = tag + ": " + msg;
+        System.err.println(line);
+        return line.length();
+    }
+}
@@ -0,0 +1,30 @@
+package android.util;
+
+import java.util.TreeMap;
+
+/**
+ * JVM stand-in of android.util.SparseArray, functional for the routing core.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public class SparseArray<E> {
+    private final TreeMap<Integer, E> values = new TreeMap<>();
+
+    public E get(int key) {
+        return values.get(key);
+    }
+
+    public void put(int key, E value) {
+        values.put(key, value);
+    }
+
+    public void remove(int key) {
+        values.remove(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,28 @@
+package dalvik.system;
+
+import java.io.IOException;
+import java.util.Enumeration;
+
+/**
+ * JVM stand-in of dalvik.system.DexFile, only for compiling, it is not used by benchmarks.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 21:40
+ */
+public final class DexFile {
+    public DexFile(String fileName) throws IOException {
+        throw new IOException("No dex on JVM");
+    }
+
+    public static DexFile loadDex(String sourcePathName, String outputPathName, int flags) throws IOException {
+        throw new IOException("No dex on JVM");
+    }
+
+    public Enumeration<String> entries() {
+        throw new UnsupportedOperationException();
+    }
+
+    public void close() throws IOException {
+    }
+}
@@ -18,6 +18,7 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,12 +33,16 @@ import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 
 import static com.alibaba.android.arouter.compiler.utils.Consts.ANNOTATION_TYPE_AUTOWIRED;
+import static com.alibaba.android.arouter.compiler.utils.Consts.ICHAINED_SYRINGE;
 import static com.alibaba.android.arouter.compiler.utils.Consts.ISYRINGE;
 import static com.alibaba.android.arouter.compiler.utils.Consts.JSON_SERVICE;
+import static com.alibaba.android.arouter.compiler.utils.Consts.LAZY_OBJECT;
 import static com.alibaba.android.arouter.compiler.utils.Consts.METHOD_INJECT;
+import static com.alibaba.android.arouter.compiler.utils.Consts.PAYLOAD_UTILS;
 import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_AUTOWIRED;
 import static com.alibaba.android.arouter.compiler.utils.Consts.TYPE_WRAPPER;
 import static com.alibaba.android.arouter.compiler.utils.Consts.WARNING_TIPS;
@@ -60,6 +65,7 @@ public class AutowiredProcessor extends BaseProcessor {
     private Map<TypeElement, List<Element>> parentAndChild = new HashMap<>();   // Contain field need autowired and his super class.
     private static final ClassName ARouterClass = ClassName.get("com.alibaba.android.arouter.launcher", "ARouter");
     private static final ClassName AndroidLog = ClassName.get("android.util", "Log");
+    private static final ClassName AndroidBundle = ClassName.get("android.os", "Bundle");
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnvironment) {
@@ -138,24 +144,62 @@ public class AutowiredProcessor extends BaseProcessor {
                  */
                 TypeSpec.Builder helper = TypeSpec.classBuilder(fileName)
                         .addJavadoc(WARNING_TIPS)
-                        .addSuperinterface(ClassName.get(type_ISyringe))
                         .addModifiers(PUBLIC);
 
                 /*
-                 * 为目标构建私有属性：
-                 * private SerializationService serializationService;
+                 * 如果父类的变量也能由辅助类注入，则实现IChainedSyringe，并在inject最后调用父类的辅助类：
+                 * public class Test1Activity$$ARouter$$Autowired implements IChainedSyringe {
+                 *     private final ISyringe parentSyringe = new BaseActivity$$ARouter$$Autowired();
+                 * }
                  */
-                FieldSpec jsonServiceField = FieldSpec.builder(TypeName.get(type_JsonService.asType()), "serializationService", Modifier.PRIVATE).build();
-                helper.addField(jsonServiceField);
+                ClassName parentSyringe = null;
+                if (chainSyringe && isChainable(parent)) {
+                    helper.addSuperinterface(ClassName.bestGuess(ICHAINED_SYRINGE));
+
+                    parentSyringe = parentSyringeOf(parent);
+                    if (null != parentSyringe) {
+                        helper.addField(FieldSpec.builder(ClassName.get(type_ISyringe), "parentSyringe", Modifier.PRIVATE, Modifier.FINAL)
+                                .initializer("new $T()", parentSyringe)
+                                .build());
+                    }
+                } else {
+                    helper.addSuperinterface(ClassName.get(type_ISyringe));
+                }
 
                 /*
+                 * 只有存在Object类型的变量时，才需要SerializationService，构建懒加载的属性和方法：
+                 * private volatile SerializationService serializationService;
+                 * private SerializationService serializationService() {...}
+                 *
                  * 为 public void inject(Object target) 添加语句：
-                 * serializationService = ARouter.getInstance().navigation(SerializationService.class);
+                 * SerializationService serializationService = serializationService();
                  * Test1Activity substitute = (Test1Activity)target
                  */
-                injectMethodBuilder.addStatement("serializationService = $T.getInstance().navigation($T.class)", ARouterClass, ClassName.get(type_JsonService));
+                if (hasObjectField(childs)) {
+                    TypeName jsonServiceType = TypeName.get(type_JsonService.asType());
+                    addServiceGetter(helper, jsonServiceType, "serializationService", CodeBlock.of("$T.getInstance().navigation($T.class)", ARouterClass, jsonServiceType));
+                    injectMethodBuilder.addStatement("$T serializationService = serializationService()", jsonServiceType);
+                }
                 injectMethodBuilder.addStatement("$T substitute = ($T)target", ClassName.get(parent), ClassName.get(parent));
 
+                /*
+                 * Intent.getExtras()每次调用都会复制Bundle，所以只获取一次，所有变量都从这个Bundle中读取：
+                 * Bundle extras = substitute.getIntent().getExtras();  // Fragment: substitute.getArguments()
+                 * if (null == extras) {
+                 *     extras = Bundle.EMPTY;
+                 * }
+                 */
+                if (hasIntentField(childs)) {
+                    if (types.isSubtype(parent.asType(), activityTm)) {
+                        injectMethodBuilder.addStatement("$T extras = substitute.getIntent().getExtras()", AndroidBundle);
+                    } else if (types.isSubtype(parent.asType(), fragmentTm) || types.isSubtype(parent.asType(), fragmentTmV4)) {
+                        injectMethodBuilder.addStatement("$T extras = substitute.getArguments()", AndroidBundle);
+                    }
+                    injectMethodBuilder.beginControlFlow("if (null == extras)");
+                    injectMethodBuilder.addStatement("extras = $T.EMPTY", AndroidBundle);
+                    injectMethodBuilder.endControlFlow();
+                }
+
                 // Generate method body, start inject.
                 // 开始注入变量值
                 for (Element element : childs) {
@@ -181,14 +225,12 @@ public class AutowiredProcessor extends BaseProcessor {
                              * @Route(path = "/yourservicegroupname/hello")
                              * public class HelloServiceImpl implements HelloService {}
                              *
-                             * 则生成代码如下：
-                             * substitute.helloService = ARouter.getInstance().navigation(HelloService.class);
+                             * 则生成代码如下，服务只在首次注入时查找一次：
+                             * substitute.helloService = helloServiceProvider();
                              */
-                            injectMethodBuilder.addStatement(
-                                    "substitute." + fieldName + " = $T.getInstance().navigation($T.class)",
-                                    ARouterClass,
-                                    ClassName.get(element.asType())
-                            );
+                            addServiceGetter(helper, ClassName.get(element.asType()), fieldName + "Provider",
+                                    CodeBlock.of("$T.getInstance().navigation($T.class)", ARouterClass, ClassName.get(element.asType())));
+                            injectMethodBuilder.addStatement("substitute." + fieldName + " = " + fieldName + "Provider()");
                         } else {    // use byName
                             /*
                              * 如果用户设置了@Autowired的name属性，则通过ARouter的
@@ -207,15 +249,12 @@ public class AutowiredProcessor extends BaseProcessor {
                              * @Route(path = "/yourservicegroupname/ahello")
                              * public class AHelloServiceImpl2 implements HelloService {}
                              *
-                             * 则生成代码如下：
-                             * substitute.helloService1 = (HelloService)ARouter.getInstance().build("/yourservicegroupname/ahello").navigation();
+                             * 则生成代码如下，服务只在首次注入时查找一次：
+                             * substitute.helloService1 = helloService1Provider();
                              */
-                            injectMethodBuilder.addStatement(
-                                    "substitute." + fieldName + " = ($T)$T.getInstance().build($S).navigation()",
-                                    ClassName.get(element.asType()),
-                                    ARouterClass,
-                                    fieldConfig.name()
-                            );
+                            addServiceGetter(helper, ClassName.get(element.asType()), fieldName + "Provider",
+                                    CodeBlock.of("($T)$T.getInstance().build($S).navigation()", ClassName.get(element.asType()), ARouterClass, fieldConfig.name()));
+                            injectMethodBuilder.addStatement("substitute." + fieldName + " = " + fieldName + "Provider()");
                         }
 
                         // Validator
@@ -247,21 +286,15 @@ public class AutowiredProcessor extends BaseProcessor {
                          *      ...
                          * }
                          * 构建语句：
-                         * substitute.age = substitute.
-                         * substitute.ser = (xxx.yyy.TestSerializable) substitute.
+                         * substitute.age = extras.
+                         * substitute.ser = (xxx.yyy.TestSerializable) extras.
                          *
                          * ps：这里可以知道为啥@Autowired修饰的变量不能用private修饰符了，因为如果是private的就无法访问了
                          */
-                        String statement = "substitute." + fieldName + " = " + buildCastCode(element) + "substitute.";
-                        boolean isActivity = false;
-                        if (types.isSubtype(parent.asType(), activityTm)) {  // Activity, then use getIntent()
-                            // 如果目标类是Activity，则通过getIntent()获取变量值
-                            isActivity = true;
-                            statement += "getIntent().";
-                        } else if (types.isSubtype(parent.asType(), fragmentTm) || types.isSubtype(parent.asType(), fragmentTmV4)) {   // Fragment, then use getArguments()
-                            // 如果目标类是Fragment，则通过getArguments()获取变量值
-                            statement += "getArguments().";
-                        } else {
+                        String statement = "substitute." + fieldName + " = " + buildCastCode(element) + "extras.";
+                        if (!types.isSubtype(parent.asType(), activityTm)
+                                && !types.isSubtype(parent.asType(), fragmentTm) && !types.isSubtype(parent.asType(), fragmentTmV4)) {
+                            // Activity通过getIntent()获取变量值，Fragment通过getArguments()获取变量值，都已经读取到extras中
                             throw new IllegalAccessException("The field [" + fieldName + "] need autowired from intent, its parent must be activity or fragment!");
                         }
 
@@ -283,23 +316,22 @@ public class AutowiredProcessor extends BaseProcessor {
                          *      TestObj obj;
                          *      ...
                          * }
-                         * 构建语句，statement如下（参数填充后）：
-                         * Activity：
-                         * substitute.age = substitute.getIntent().getIntExtra("age", substitute.age)
-                         * substitute.name = substitute.getIntent().getExtras() == null ? substitute.name : substitute.getIntent().getExtras().getString("name", substitute.name)
-                         * substitute.ser = (xxx.yyy.TestSerializable) substitute.substitute.getIntent().getSerializableExtra("ser")
-                         * serializationService.parseObject(substitute.getIntent().getStringExtra("obj"), new com.alibaba.android.arouter.facade.model.TypeWrapper<TestObj>(){}.getType())
-                         *
-                         * Fragment：
-                         * substitute.age = substitute.getArguments().getInt("age", substitute.age)
-                         * substitute.name = substitute.getArguments().getString("name", substitute.name)
-                         * substitute.ser = (xxx.yyy.TestSerializable) substitute.substitute.getArguments().getSerializable("ser")
-                         * serializationService.parseObject(substitute.getArguments().getString("obj"), new com.alibaba.android.arouter.facade.model.TypeWrapper<TestObj>(){}.getType())
+                         * 构建语句，statement如下（参数填充后），Activity和Fragment一致：
+                         * substitute.age = extras.getInt("age", substitute.age)
+                         * substitute.name = extras.getString("name", substitute.name)
+                         * substitute.ser = (xxx.yyy.TestSerializable) extras.getSerializable("ser")
+                         * serializationService.parseObject(extras.getString("obj"), new com.alibaba.android.arouter.facade.model.TypeWrapper<TestObj>(){}.getType())
                          */
-                        statement = buildStatement(originalValue, statement, typeUtils.typeExchange(element), isActivity, isKtClass(parent));
-                        if (statement.startsWith("serializationService.")) {   // Not mortals
+                        int type = typeUtils.typeExchange(element);
+                        statement = buildStatement(originalValue, statement, type, isKtClass(parent));
+                        if (fieldConfig.lazy() && type != TypeKind.OBJECT.ordinal()) {
+                            throw new IllegalAccessException("The lazy field [" + fieldName + "] in class [" + parent.getQualifiedName() + "] must be LazyObject<T>!");
+                        }
+
+                        if (type == TypeKind.OBJECT.ordinal()) {   // Not mortals
                             /*
-                             * 如果是Object类型变量，则判断serializationService是否为null，如果为null则log，否则构建语句：
+                             * 如果是Object类型变量，extras中可能是json字符串、BinarySerializationService序列化的bytes或者大对象的token，
+                             * 交给PayloadUtils解析，Type只创建一次：
                              * 例如：
                              * @Route(path = "/test/activity1", name = "测试用 Activity")
                              * public class Test1Activity extends BaseActivity {
@@ -308,22 +340,33 @@ public class AutowiredProcessor extends BaseProcessor {
                              *      ...
                              * }
                              * 构建语句：
-                             * if (null != serializationService) {
-                             *      substitute.obj = serializationService.parseObject(substitute.getIntent().getStringExtra("obj"), new com.alibaba.android.arouter.facade.model.TypeWrapper<TestObj>(){}.getType());
-                             * } else {
-                             *      Log.e("ARouter::", "You want automatic inject the field 'obj' in class 'Test1Activity' , then you should implement 'SerializationService' to support object auto inject!");
-                             * }
+                             * private static final Type objType = new com.alibaba.android.arouter.facade.model.TypeWrapper<TestObj>(){}.getType();
+                             *
+                             * substitute.obj = PayloadUtils.parseObject(substitute, extras.get("obj"), objType, serializationService);
+                             * // @Autowired(lazy = true) LazyObject<TestObj> obj，首次访问时才解析
+                             * substitute.obj = new LazyObject<TestObj>(substitute, extras.get("obj"), objType, serializationService);
                              */
-                            injectMethodBuilder.beginControlFlow("if (null != serializationService)");
-                            injectMethodBuilder.addStatement(
-                                    "substitute." + fieldName + " = " + statement,
-                                    (StringUtils.isEmpty(fieldConfig.name()) ? fieldName : fieldConfig.name()),
-                                    ClassName.get(element.asType())
-                            );
-                            injectMethodBuilder.nextControlFlow("else");
-                            injectMethodBuilder.addStatement(
-                                    "$T.e(\"" + Consts.TAG + "\", \"You want automatic inject the field '" + fieldName + "' in class '$T' , then you should implement 'SerializationService' to support object auto inject!\")", AndroidLog, ClassName.get(parent));
-                            injectMethodBuilder.endControlFlow();
+                            String typeField = fieldName + "Type";
+                            TypeMirror objectType = fieldConfig.lazy() ? lazyTypeOf(element, parent) : element.asType();
+                            helper.addField(FieldSpec.builder(Type.class, typeField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                    .initializer("new $T<$T>(){}.getType()", ClassName.bestGuess(TYPE_WRAPPER), TypeName.get(objectType))
+                                    .build());
+
+                            if (fieldConfig.lazy()) {
+                                injectMethodBuilder.addStatement(
+                                        "substitute." + fieldName + " = new $T(substitute, extras.get($S), $N, serializationService)",
+                                        ClassName.get(element.asType()),
+                                        (StringUtils.isEmpty(fieldConfig.name()) ? fieldName : fieldConfig.name()),
+                                        typeField
+                                );
+                            } else {
+                                injectMethodBuilder.addStatement(
+                                        "substitute." + fieldName + " = " + statement,
+                                        ClassName.bestGuess(PAYLOAD_UTILS),
+                                        (StringUtils.isEmpty(fieldConfig.name()) ? fieldName : fieldConfig.name()),
+                                        typeField
+                                );
+                            }
                         } else {
                             // 不是Object类型变量，构建语句上面展示了（参数填充后）
                             injectMethodBuilder.addStatement(statement, StringUtils.isEmpty(fieldConfig.name()) ? fieldName : fieldConfig.name());
@@ -333,7 +376,12 @@ public class AutowiredProcessor extends BaseProcessor {
                         if (fieldConfig.required() && !element.asType().getKind().isPrimitive()) {  // Primitive wont be check.
                             // 如果不是基础数据类型，且@Autowired声明了required属性，
                             // 则添加语句检查变量是否被赋值成功，如果没赋值成功，则log
-                            injectMethodBuilder.beginControlFlow("if (null == substitute." + fieldName + ")");
+                            // LazyObject总是会被赋值，所以lazy的变量检查extras中是否有该参数
+                            if (fieldConfig.lazy()) {
+                                injectMethodBuilder.beginControlFlow("if (null == extras.get($S))", StringUtils.isEmpty(fieldConfig.name()) ? fieldName : fieldConfig.name());
+                            } else {
+                                injectMethodBuilder.beginControlFlow("if (null == substitute." + fieldName + ")");
+                            }
                             injectMethodBuilder.addStatement(
                                     "$T.e(\"" + Consts.TAG + "\", \"The field '" + fieldName + "' is null, in class '\" + $T.class.getName() + \"!\")", AndroidLog, ClassName.get(parent));
                             injectMethodBuilder.endControlFlow();
@@ -341,6 +389,11 @@ public class AutowiredProcessor extends BaseProcessor {
                     }
                 }
 
+                // Inject super classes
+                if (null != parentSyringe) {
+                    injectMethodBuilder.addStatement("parentSyringe.inject(target)");
+                }
+
                 // 方法体语句添加完成后，构建方法，再将方法放入类中
                 helper.addMethod(injectMethodBuilder.build());
 
@@ -357,6 +410,149 @@ public class AutowiredProcessor extends BaseProcessor {
         }
     }
 
+    /**
+     * Type of object in LazyObject, eg: LazyObject<TestObj> -> TestObj
+     *
+     * @param element lazy field
+     * @param parent  class of field
+     */
+    private TypeMirror lazyTypeOf(Element element, TypeElement parent) throws IllegalAccessException {
+        TypeMirror typeMirror = element.asType();
+        if (typeMirror instanceof DeclaredType) {
+            DeclaredType declaredType = (DeclaredType) typeMirror;
+            if (((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(LAZY_OBJECT) && declaredType.getTypeArguments().size() == 1) {
+                return declaredType.getTypeArguments().get(0);
+            }
+        }
+
+        throw new IllegalAccessException("The lazy field [" + element.getSimpleName() + "] in class [" + parent.getQualifiedName() + "] must be LazyObject<T>!");
+    }
+
+    /**
+     * Whether there is any field need read from intent or arguments.
+     *
+     * @param childs fields need autowired
+     */
+    private boolean hasIntentField(List<Element> childs) {
+        TypeMirror iProvider = elementUtils.getTypeElement(Consts.IPROVIDER).asType();
+        for (Element element : childs) {
+            if (!types.isSubtype(element.asType(), iProvider)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether there is any field need SerializationService.
+     *
+     * @param childs fields need autowired
+     */
+    private boolean hasObjectField(List<Element> childs) {
+        TypeMirror iProvider = elementUtils.getTypeElement(Consts.IPROVIDER).asType();
+        for (Element element : childs) {
+            if (!types.isSubtype(element.asType(), iProvider) && typeUtils.typeExchange(element) == TypeKind.OBJECT.ordinal()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Build lazy getter of service, the service will be found only once per syringe.
+     * 构建服务的懒加载属性和方法，eg：
+     * private volatile HelloService helloServiceProvider;
+     *
+     * private HelloService helloServiceProvider() {
+     *     HelloService service = helloServiceProvider;
+     *     if (null == service) {
+     *         service = ARouter.getInstance().navigation(HelloService.class);
+     *         helloServiceProvider = service;
+     *     }
+     *     return service;
+     * }
+     *
+     * @param helper      syringe
+     * @param serviceType type of service
+     * @param name        name of field and getter
+     * @param lookup      code used for find service
+     */
+    private void addServiceGetter(TypeSpec.Builder helper, TypeName serviceType, String name, CodeBlock lookup) {
+        helper.addField(FieldSpec.builder(serviceType, name, Modifier.PRIVATE, Modifier.VOLATILE).build());
+        helper.addMethod(MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PRIVATE)
+                .returns(serviceType)
+                .addStatement("$T service = $N", serviceType, name)
+                .beginControlFlow("if (null == service)")
+                .addStatement("service = $L", lookup)
+                .addStatement("$N = service", name)
+                .endControlFlow()
+                .addStatement("return service")
+                .build());
+    }
+
+    /**
+     * Find out the syringe of nearest super class, which has field need autowired.
+     * 查找最近的、有待注入变量的父类对应的辅助类
+     *
+     * @param element class need autowired
+     * @return class name of syringe, null if super classes has nothing to inject.
+     */
+    private ClassName parentSyringeOf(TypeElement element) {
+        TypeMirror superType = element.getSuperclass();
+        while (superType instanceof DeclaredType) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+            String qualifiedName = superElement.getQualifiedName().toString();
+            if (qualifiedName.startsWith("android")) {
+                break;
+            }
+
+            // Generated in this round, or generated by other module.
+            String packageName = qualifiedName.substring(0, qualifiedName.lastIndexOf("."));
+            String syringeName = superElement.getSimpleName() + NAME_OF_AUTOWIRED;
+            if (parentAndChild.containsKey(superElement) || null != elementUtils.getTypeElement(packageName + "." + syringeName)) {
+                return ClassName.get(packageName, syringeName);
+            }
+
+            superType = superElement.getSuperclass();
+        }
+
+        return null;
+    }
+
+    /**
+     * Whether the syringe of element can inject all of its super classes,
+     * it needs the syringe of nearest super class is chained too.
+     *
+     * @param element class need autowired
+     */
+    private boolean isChainable(TypeElement element) {
+        ClassName parentSyringe = parentSyringeOf(element);
+        if (null == parentSyringe) {
+            return true;
+        }
+
+        TypeElement parentSyringeElement = elementUtils.getTypeElement(parentSyringe.reflectionName());
+        if (null != parentSyringeElement) {
+            // Generated by other module, check its interface.
+            return types.isSubtype(parentSyringeElement.asType(), elementUtils.getTypeElement(ICHAINED_SYRINGE).asType());
+        }
+
+        // Generated in this round, check its super class.
+        TypeMirror superType = element.getSuperclass();
+        while (superType instanceof DeclaredType) {
+            TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+            if (parentAndChild.containsKey(superElement)) {
+                return isChainable(superElement);
+            }
+            superType = superElement.getSuperclass();
+        }
+
+        return false;
+    }
+
     private boolean isKtClass(Element element) {
         for (AnnotationMirror annotationMirror : elementUtils.getAllAnnotationMirrors(element)) {
             if (annotationMirror.getAnnotationType().toString().contains("kotlin")) {
@@ -380,49 +576,49 @@ public class AutowiredProcessor extends BaseProcessor {
     /**
      * Build param inject statement
      * 为目标类@Autowired修饰的成员变量的赋值构建语句
-     * 如果是基础数据类型 或 String 或 Serializable 或 Parcelable，
-     * 则Activity通过getIntent()获取数据，Fragment通过getArguments()获取数据；
-     * 如果是Object类型的变量，则通过getIntent()或getArguments()获取到字符串后，再通过SerializationService转换成对应的类型
+     * 如果是基础数据类型 或 String 或 Serializable 或 Parcelable，则直接从extras中读取；
+     * 如果是Object类型的变量，则从extras中获取到json字符串或bytes后，再转换成对应的类型
+     * Activity的extras来自getIntent().getExtras()，Fragment的extras来自getArguments()
      */
-    private String buildStatement(String originalValue, String statement, int type, boolean isActivity, boolean isKt) {
+    private String buildStatement(String originalValue, String statement, int type, boolean isKt) {
         switch (TypeKind.values()[type]) {
             case BOOLEAN:
-                statement += "getBoolean" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getBoolean($S, " + originalValue + ")";
                 break;
             case BYTE:
-                statement += "getByte" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getByte($S, " + originalValue + ")";
                 break;
             case SHORT:
-                statement += "getShort" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getShort($S, " + originalValue + ")";
                 break;
             case INT:
-                statement += "getInt" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getInt($S, " + originalValue + ")";
                 break;
             case LONG:
-                statement += "getLong" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getLong($S, " + originalValue + ")";
                 break;
             case CHAR:
-                statement += "getChar" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getChar($S, " + originalValue + ")";
                 break;
             case FLOAT:
-                statement += "getFloat" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getFloat($S, " + originalValue + ")";
                 break;
             case DOUBLE:
-                statement += "getDouble" + (isActivity ? "Extra" : "") + "($S, " + originalValue + ")";
+                statement += "getDouble($S, " + originalValue + ")";
                 break;
             case STRING:
-                statement += (isActivity ? ("getExtras() == null ? " + originalValue + " : substitute.getIntent().getExtras().getString($S") : ("getString($S")) + ", " + originalValue + ")";
+                statement += "getString($S, " + originalValue + ")";
                 break;
             case SERIALIZABLE:
-                statement += (isActivity ? ("getSerializableExtra($S)") : ("getSerializable($S)"));
+                statement += "getSerializable($S)";
                 break;
             case PARCELABLE:
-                statement += (isActivity ? ("getParcelableExtra($S)") : ("getParcelable($S)"));
+                statement += "getParcelable($S)";
                 break;
             case OBJECT:
-                // 如果是Object类型的变量，则通过getIntent()或getArguments()获取到字符串后，
-                // 再通过SerializationService转换成对应的类型
-                statement = "serializationService.parseObject(substitute." + (isActivity ? "getIntent()." : "getArguments().") + (isActivity ? "getStringExtra($S)" : "getString($S)") + ", new " + TYPE_WRAPPER + "<$T>(){}.getType())";
+                // 如果是Object类型的变量，则从extras中获取到json字符串、bytes或大对象的token后，
+                // 再通过SerializationService或BinarySerializationService转换成对应的类型
+                statement = "$T.parseObject(substitute, extras.get($S), $N, serializationService)";
                 break;
         }
 
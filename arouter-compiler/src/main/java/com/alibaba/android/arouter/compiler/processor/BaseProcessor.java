@@ -35,6 +35,10 @@ public abstract class BaseProcessor extends AbstractProcessor {
     String moduleName = null;
     // If need generate router doc
     boolean generateDoc;
+    // If need generate typed navigator for activity and fragment
+    boolean generateNavigator;
+    // If syringe should inject super classes by itself
+    boolean chainSyringe;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -51,6 +55,8 @@ public abstract class BaseProcessor extends AbstractProcessor {
         if (MapUtils.isNotEmpty(options)) {
             moduleName = options.get(KEY_MODULE_NAME);
             generateDoc = VALUE_ENABLE.equals(options.get(KEY_GENERATE_DOC_NAME));
+            generateNavigator = VALUE_ENABLE.equals(options.get(KEY_GENERATE_NAVIGATOR_NAME));
+            chainSyringe = VALUE_ENABLE.equals(options.get(KEY_CHAIN_SYRINGE_NAME));
         }
 
         if (StringUtils.isNotEmpty(moduleName)) {
@@ -73,6 +79,8 @@ public abstract class BaseProcessor extends AbstractProcessor {
         return new HashSet<String>() {{
             this.add(KEY_MODULE_NAME);
             this.add(KEY_GENERATE_DOC_NAME);
+            this.add(KEY_GENERATE_NAVIGATOR_NAME);
+            this.add(KEY_CHAIN_SYRINGE_NAME);
         }};
     }
 }
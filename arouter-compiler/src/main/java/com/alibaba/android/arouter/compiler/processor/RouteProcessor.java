@@ -11,10 +11,12 @@ import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.serializer.SerializerFeature;
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.WildcardTypeName;
 
@@ -25,9 +27,13 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -52,15 +58,23 @@ import static com.alibaba.android.arouter.compiler.utils.Consts.IPROVIDER_GROUP;
 import static com.alibaba.android.arouter.compiler.utils.Consts.IROUTE_GROUP;
 import static com.alibaba.android.arouter.compiler.utils.Consts.ITROUTE_ROOT;
 import static com.alibaba.android.arouter.compiler.utils.Consts.METHOD_LOAD_INTO;
+import static com.alibaba.android.arouter.compiler.utils.Consts.NAVIGATION_CALLBACK;
 import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_GROUP;
+import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_NAVIGATOR;
+import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_PATHS;
 import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_PROVIDER;
 import static com.alibaba.android.arouter.compiler.utils.Consts.NAME_OF_ROOT;
 import static com.alibaba.android.arouter.compiler.utils.Consts.PACKAGE_OF_GENERATE_DOCS;
 import static com.alibaba.android.arouter.compiler.utils.Consts.PACKAGE_OF_GENERATE_FILE;
+import static com.alibaba.android.arouter.compiler.utils.Consts.POSTCARD;
+import static com.alibaba.android.arouter.compiler.utils.Consts.ROUTE_KEY;
 import static com.alibaba.android.arouter.compiler.utils.Consts.SEPARATOR;
 import static com.alibaba.android.arouter.compiler.utils.Consts.SERVICE;
 import static com.alibaba.android.arouter.compiler.utils.Consts.WARNING_TIPS;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
 
 /**
  * A processor used for find route.
@@ -79,6 +93,11 @@ public class RouteProcessor extends BaseProcessor {
     // 以group为key，groupFileName为value，eg：["test", "ARouter$$Group$$test"]
     private Map<String, String> rootMap = new TreeMap<>();  // Map of root metas, used for generate class file in order.
 
+    // Fields which annotation by @Autowired in route, injectName as key, used for generate navigator.
+    private Map<TypeElement, Map<String, Element>> injectFieldsMap = new HashMap<>();
+
+    private static final ClassName AROUTER_CLASS = ClassName.get("com.alibaba.android.arouter.launcher", "ARouter");
+
     // Provider接口类型
     private TypeMirror iProvider = null;
     private Writer docWriter;       // Writer used for write doc
@@ -216,7 +235,9 @@ public class RouteProcessor extends BaseProcessor {
                     // Get all fields annotation by @Autowired
                     Map<String, Integer> paramsType = new HashMap<>();
                     Map<String, Autowired> injectConfig = new HashMap<>();
-                    injectParamCollector(element, paramsType, injectConfig);
+                    Map<String, Element> injectFields = new LinkedHashMap<>();
+                    injectParamCollector(element, paramsType, injectConfig, injectFields);
+                    injectFieldsMap.put((TypeElement) element, injectFields);
 
                     // 构建Activity或Fragment的RouteMeta
                     if (types.isSubtype(tm, type_Activity)) {
@@ -257,6 +278,18 @@ public class RouteProcessor extends BaseProcessor {
 
             Map<String, List<RouteDoc>> docSource = new HashMap<>();
 
+            /*
+                构建路由常量类，eg：
+                public final class ARouter$$Paths$$modulejava {
+                    public static final RouteKey TEST_ACTIVITY1 = RouteKey.of("/test/activity1", "test");
+                }
+             */
+            ClassName routeKeyCn = ClassName.bestGuess(ROUTE_KEY);
+            TypeSpec.Builder pathsBuilder = TypeSpec.classBuilder(NAME_OF_PATHS + SEPARATOR + moduleName)
+                    .addJavadoc(WARNING_TIPS)
+                    .addModifiers(PUBLIC, FINAL);
+            Set<String> pathConstantNames = new HashSet<>();
+
             // Start generate java source, structure is divided into upper and lower levels, used for demand initialization.
             // 开始生成java源文件
             for (Map.Entry<String, Set<RouteMeta>> entry : groupMap.entrySet()) {
@@ -381,8 +414,12 @@ public class RouteProcessor extends BaseProcessor {
                             Autowired injectConfig = injectConfigs.get(types.getKey());
                             param.setKey(types.getKey());
                             param.setType(TypeKind.values()[types.getValue()].name().toLowerCase());
-                            param.setDescription(injectConfig.desc());
-                            param.setRequired(injectConfig.required());
+                            if (null != injectConfig) {
+                                param.setDescription(injectConfig.desc());
+                                param.setRequired(injectConfig.required());
+                            } else {    // Variable of templated path, it always has value.
+                                param.setRequired(true);
+                            }
 
                             paramList.add(param);
                         }
@@ -407,6 +444,17 @@ public class RouteProcessor extends BaseProcessor {
                             routeMeta.getPath().toLowerCase(),
                             routeMeta.getGroup().toLowerCase());
 
+                    // Constant of route key, used by ARouter.build(RouteKey).
+                    pathsBuilder.addField(FieldSpec.builder(routeKeyCn, pathConstantName(routeMeta.getPath(), pathConstantNames), PUBLIC, STATIC, FINAL)
+                            .addJavadoc("$L, {@link $T}\n", StringUtils.isEmpty(routeMeta.getName()) ? routeMeta.getPath() : routeMeta.getName(), className)
+                            .initializer("$T.of($S, $S)", routeKeyCn, routeMeta.getPath(), routeMeta.getGroup())
+                            .build());
+
+                    // Typed navigator, only activity and fragment has params.
+                    if (generateNavigator && (RouteType.ACTIVITY == routeMeta.getType() || RouteType.FRAGMENT == routeMeta.getType())) {
+                        generateNavigator(routeMeta, className, mapBody);
+                    }
+
                     routeDoc.setClassName(className.toString());
                     routeDocList.add(routeDoc);
                 }
@@ -452,6 +500,10 @@ public class RouteProcessor extends BaseProcessor {
                 }
             }
 
+            // Write path constants into disk.
+            JavaFile.builder(PACKAGE_OF_GENERATE_FILE, pathsBuilder.build()).build().writeTo(mFiler);
+            logger.info(">>> Generated path constants, name is " + NAME_OF_PATHS + SEPARATOR + moduleName + " <<<");
+
             // Output route doc
             if (generateDoc) {
                 docWriter.append(JSON.toJSONString(docSource, SerializerFeature.PrettyFormat));
@@ -514,7 +566,7 @@ public class RouteProcessor extends BaseProcessor {
      * 递归收集Activity或Fragment内部被@Autowired修饰的成员变量及其注解
      * @param element current element.
      */
-    private void injectParamCollector(Element element, Map<String, Integer> paramsType, Map<String, Autowired> injectConfig) {
+    private void injectParamCollector(Element element, Map<String, Integer> paramsType, Map<String, Autowired> injectConfig, Map<String, Element> injectFields) {
         for (Element field : element.getEnclosedElements()) {
             // 遍历Activity或Fragment的内部元素（直接声明的成员变量、成员函数、构造函数）
             if (field.getKind().isField() && field.getAnnotation(Autowired.class) != null && !types.isSubtype(field.asType(), iProvider)) {
@@ -527,6 +579,7 @@ public class RouteProcessor extends BaseProcessor {
                 paramsType.put(injectName, typeUtils.typeExchange(field));
                 // 以@Autowired的name属性的值为key，Autowired注解为value，放入injectConfig中
                 injectConfig.put(injectName, paramConfig);
+                injectFields.put(injectName, field);
             }
         }
 
@@ -536,11 +589,199 @@ public class RouteProcessor extends BaseProcessor {
             Element parentElement = ((DeclaredType) parent).asElement();
             if (parentElement instanceof TypeElement && !((TypeElement) parentElement).getQualifiedName().toString().startsWith("android")) {
                 // 如果存在父类，且父类不是android包下的类，则递归收集父类中被@Autowired修饰的成员变量
-                injectParamCollector(parentElement, paramsType, injectConfig);
+                injectParamCollector(parentElement, paramsType, injectConfig, injectFields);
             }
         }
     }
 
+    /**
+     * Generate typed navigator for activity or fragment, it carries the resolved meta,
+     * so navigation needn't lookup path or load group at runtime.
+     * 生成类型安全的路由导航类，eg：
+     * public final class Test1ActivityRoute {
+     *     public static final RouteMeta META = RouteMeta.build(RouteType.ACTIVITY, Test1Activity.class, "/test/activity1", "test", ..., -1, -2147483648);
+     *     public static Test1ActivityRoute builder() {...}
+     *     public Test1ActivityRoute age(int age) {...}
+     *     public Object navigate(Context context) {...}
+     * }
+     *
+     * @param routeMeta meta of activity or fragment
+     * @param className class name of route
+     * @param mapBody   body of paramsType
+     */
+    private void generateNavigator(RouteMeta routeMeta, ClassName className, String mapBody) throws IOException {
+        TypeElement rawType = (TypeElement) routeMeta.getRawType();
+        String navigatorName = rawType.getSimpleName() + NAME_OF_NAVIGATOR;
+        String packageName = className.packageName();
+        if (null != elementUtils.getTypeElement(packageName + "." + navigatorName)) {
+            logger.warning(">>> The class " + navigatorName + " is already exist, skip generate navigator for " + className + " <<<");
+            return;
+        }
+
+        ClassName navigatorCn = ClassName.get(packageName, navigatorName);
+        ClassName postcardCn = ClassName.bestGuess(POSTCARD);
+        ClassName routeMetaCn = ClassName.get(RouteMeta.class);
+        ClassName routeTypeCn = ClassName.get(RouteType.class);
+
+        TypeSpec.Builder navigatorBuilder = TypeSpec.classBuilder(navigatorName)
+                .addJavadoc(WARNING_TIPS)
+                .addModifiers(PUBLIC, FINAL)
+                .addField(FieldSpec.builder(routeMetaCn, "META", PUBLIC, STATIC, FINAL)
+                        .initializer("$T.build($T." + routeMeta.getType() + ", $T.class, $S, $S, " + (StringUtils.isEmpty(mapBody) ? null : ("new java.util.HashMap<String, Integer>(){{" + mapBody + "}}")) + ", " + routeMeta.getPriority() + ", " + routeMeta.getExtra() + ")",
+                                routeMetaCn,
+                                routeTypeCn,
+                                className,
+                                routeMeta.getPath(),
+                                routeMeta.getGroup())
+                        .build())
+                .addField(postcardCn, "postcard", PRIVATE, FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(PRIVATE)
+                        .addStatement("this.postcard = $T.getInstance().build(META)", AROUTER_CLASS)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("builder")
+                        .addModifiers(PUBLIC, STATIC)
+                        .returns(navigatorCn)
+                        .addStatement("return new $T()", navigatorCn)
+                        .build());
+
+        // Setter of params, named by field.
+        Set<String> methodNames = new HashSet<>(Arrays.asList("builder", "postcard", "navigate"));
+        Map<String, Element> injectFields = injectFieldsMap.get(rawType);
+        if (MapUtils.isNotEmpty(injectFields)) {
+            for (Map.Entry<String, Element> entry : injectFields.entrySet()) {
+                String injectName = entry.getKey();
+                Element field = entry.getValue();
+                String fieldName = field.getSimpleName().toString();
+                Autowired injectConfig = routeMeta.getInjectConfig().get(injectName);
+
+                String methodName = fieldName;
+                for (int i = 2; !methodNames.add(methodName); i++) {
+                    methodName = "with" + StringUtils.capitalize(fieldName) + (i > 2 ? i - 1 : "");
+                }
+
+                // Boxed field use primitive param, postcard can't put null.
+                TypeName paramType = TypeName.get(field.asType());
+                if (paramType.isBoxedPrimitive()) {
+                    paramType = paramType.unbox();
+                } else if (injectConfig.lazy() && paramType instanceof ParameterizedTypeName) {
+                    // LazyObject<T>, the param is T.
+                    paramType = ((ParameterizedTypeName) paramType).typeArguments.get(0);
+                }
+
+                MethodSpec.Builder setterBuilder = MethodSpec.methodBuilder(methodName)
+                        .addModifiers(PUBLIC)
+                        .returns(navigatorCn)
+                        .addParameter(paramType, fieldName)
+                        .addStatement("this.postcard.$L($S, $N)", postcardMethodOf(routeMeta.getParamsType().get(injectName)), injectName, fieldName)
+                        .addStatement("return this");
+                if (StringUtils.isNotEmpty(injectConfig.desc())) {
+                    setterBuilder.addJavadoc("$L\n", injectConfig.desc());
+                }
+                navigatorBuilder.addMethod(setterBuilder.build());
+            }
+        }
+
+        navigatorBuilder.addMethod(MethodSpec.methodBuilder("postcard")
+                .addJavadoc("Postcard of this navigation, for flags, animation and so on.\n")
+                .addModifiers(PUBLIC)
+                .returns(postcardCn)
+                .addStatement("return postcard")
+                .build());
+
+        if (RouteType.ACTIVITY == routeMeta.getType()) {
+            ClassName contextCn = ClassName.get("android.content", "Context");
+            ClassName activityCn = ClassName.bestGuess(ACTIVITY);
+            ClassName callbackCn = ClassName.bestGuess(NAVIGATION_CALLBACK);
+
+            navigatorBuilder.addMethod(MethodSpec.methodBuilder("navigate")
+                    .addModifiers(PUBLIC)
+                    .returns(Object.class)
+                    .addParameter(contextCn, "context")
+                    .addStatement("return postcard.navigation(context)")
+                    .build());
+            navigatorBuilder.addMethod(MethodSpec.methodBuilder("navigate")
+                    .addModifiers(PUBLIC)
+                    .returns(Object.class)
+                    .addParameter(contextCn, "context")
+                    .addParameter(callbackCn, "callback")
+                    .addStatement("return postcard.navigation(context, callback)")
+                    .build());
+            navigatorBuilder.addMethod(MethodSpec.methodBuilder("navigate")
+                    .addModifiers(PUBLIC)
+                    .addParameter(activityCn, "activity")
+                    .addParameter(int.class, "requestCode")
+                    .addStatement("postcard.navigation(activity, requestCode)")
+                    .build());
+        } else {
+            // Fragment, return the instance directly.
+            navigatorBuilder.addMethod(MethodSpec.methodBuilder("navigate")
+                    .addModifiers(PUBLIC)
+                    .returns(className)
+                    .addStatement("return ($T) postcard.navigation()", className)
+                    .build());
+        }
+
+        JavaFile.builder(packageName, navigatorBuilder.build()).build().writeTo(mFiler);
+        logger.info(">>> Generated navigator, name is " + navigatorName + " <<<");
+    }
+
+    /**
+     * Method of postcard which used for put param.
+     *
+     * @param type ordinal of {@link TypeKind}
+     * @return method name
+     */
+    private String postcardMethodOf(int type) {
+        switch (TypeKind.values()[type]) {
+            case BOOLEAN:
+                return "withBoolean";
+            case BYTE:
+                return "withByte";
+            case SHORT:
+                return "withShort";
+            case INT:
+                return "withInt";
+            case LONG:
+                return "withLong";
+            case CHAR:
+                return "withChar";
+            case FLOAT:
+                return "withFloat";
+            case DOUBLE:
+                return "withDouble";
+            case STRING:
+                return "withString";
+            case SERIALIZABLE:
+                return "withSerializable";
+            case PARCELABLE:
+                return "withParcelable";
+            default:
+                return "withObject";
+        }
+    }
+
+    /**
+     * Make constant name by path, eg: '/test/activity1' -> 'TEST_ACTIVITY1'
+     *
+     * @param path      path of route
+     * @param usedNames names has been used in this module
+     * @return unique constant name
+     */
+    private String pathConstantName(String path, Set<String> usedNames) {
+        String name = path.replaceAll("^/+", "").replaceAll("[^0-9a-zA-Z]+", "_").replaceAll("_+$", "").toUpperCase(Locale.ENGLISH);
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            name = "_" + name;
+        }
+
+        String uniqueName = name;
+        for (int i = 2; !usedNames.add(uniqueName); i++) {
+            uniqueName = name + "_" + i;
+        }
+
+        return uniqueName;
+    }
+
     /**
      * Extra doc info from route meta
      *
@@ -623,15 +864,56 @@ public class RouteProcessor extends BaseProcessor {
                 if (StringUtils.isEmpty(defaultGroup)) {
                     return false;
                 }
+                if (defaultGroup.startsWith("{")) {
+                    logger.error("The first word of templated path [" + path + "] is the default group, it can't be variable!");
+                    return false;
+                }
 
                 meta.setGroup(defaultGroup);
-                return true;
             } catch (Exception e) {
                 logger.error("Failed to extract default group! " + e.getMessage());
                 return false;
             }
         }
 
+        return !path.contains("{") || templateVerify(meta);
+    }
+
+    /**
+     * Verify the templated path, like '/product/{id}/detail', the variables will be put into paramsType,
+     * then the values captured from path can be set by its type.
+     * 验证带变量的路由，变量必须占据'/'之间的整段，变量会以String类型补充进paramsType(已有@Autowired字段的按字段类型)
+     *
+     * @param meta raw meta
+     */
+    private boolean templateVerify(RouteMeta meta) {
+        String path = meta.getPath();
+        if (meta.getType() != RouteType.ACTIVITY && meta.getType() != RouteType.FRAGMENT) {
+            logger.error("Only activity and fragment support templated path, look at [" + path + "].");
+            return false;
+        }
+
+        Set<String> variables = new HashSet<>();
+        for (String segment : path.substring(1).split("/")) {
+            if (!segment.contains("{") && !segment.contains("}")) {
+                continue;
+            }
+
+            String variable = segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}") ? segment.substring(1, segment.length() - 1) : "";
+            if (!variable.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                logger.error("The variable [" + segment + "] in path [" + path + "] is invalid, it should be like '{id}' and take the whole word!");
+                return false;
+            }
+            if (!variables.add(variable)) {
+                logger.error("The variable [" + variable + "] is declared more than once in path [" + path + "].");
+                return false;
+            }
+
+            if (!meta.getParamsType().containsKey(variable)) {
+                meta.getParamsType().put(variable, TypeKind.STRING.ordinal());
+            }
+        }
+
         return true;
     }
 }
@@ -20,6 +20,8 @@ public class Consts {
     public static final String NAME_OF_GROUP = PROJECT + SEPARATOR + "Group" + SEPARATOR;
     public static final String NAME_OF_INTERCEPTOR = PROJECT + SEPARATOR + "Interceptors";
     public static final String NAME_OF_AUTOWIRED = SEPARATOR + PROJECT + SEPARATOR + "Autowired";
+    public static final String NAME_OF_PATHS = PROJECT + SEPARATOR + "Paths";
+    public static final String NAME_OF_NAVIGATOR = "Route";
     public static final String PACKAGE_OF_GENERATE_FILE = "com.alibaba.android.arouter.routes";
     public static final String PACKAGE_OF_GENERATE_DOCS = "com.alibaba.android.arouter.docs";
 
@@ -55,8 +57,14 @@ public class Consts {
     public static final String ITROUTE_ROOT = FACADE_PACKAGE + TEMPLATE_PACKAGE + ".IRouteRoot";
     public static final String IROUTE_GROUP = FACADE_PACKAGE + TEMPLATE_PACKAGE + ".IRouteGroup";
     public static final String ISYRINGE = FACADE_PACKAGE + TEMPLATE_PACKAGE + ".ISyringe";
+    public static final String ICHAINED_SYRINGE = FACADE_PACKAGE + TEMPLATE_PACKAGE + ".IChainedSyringe";
     public static final String JSON_SERVICE = FACADE_PACKAGE + SERVICE_PACKAGE + ".SerializationService";
     public static final String TYPE_WRAPPER = FACADE_PACKAGE + MODEL_PACKAGE + ".TypeWrapper";
+    public static final String ROUTE_KEY = FACADE_PACKAGE + ".RouteKey";
+    public static final String POSTCARD = FACADE_PACKAGE + ".Postcard";
+    public static final String LAZY_OBJECT = FACADE_PACKAGE + ".LazyObject";
+    public static final String PAYLOAD_UTILS = "com.alibaba.android.arouter.utils.PayloadUtils";
+    public static final String NAVIGATION_CALLBACK = FACADE_PACKAGE + ".callback.NavigationCallback";
 
     // Log
     static final String PREFIX_OF_LOGGER = PROJECT + "::Compiler ";
@@ -75,6 +83,8 @@ public class Consts {
     // Options of processor
     public static final String KEY_MODULE_NAME = "AROUTER_MODULE_NAME";
     public static final String KEY_GENERATE_DOC_NAME = "AROUTER_GENERATE_DOC";
+    public static final String KEY_GENERATE_NAVIGATOR_NAME = "AROUTER_GENERATE_NAVIGATOR";
+    public static final String KEY_CHAIN_SYRINGE_NAME = "AROUTER_CHAIN_SYRINGE";
 
     public static final String VALUE_ENABLE = "enable";
 
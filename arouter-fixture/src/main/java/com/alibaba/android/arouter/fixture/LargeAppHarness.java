@@ -0,0 +1,431 @@
+package com.alibaba.android.arouter.fixture;
+
+import com.alibaba.android.arouter.compiler.processor.AutowiredProcessor;
+import com.alibaba.android.arouter.compiler.processor.InterceptorProcessor;
+import com.alibaba.android.arouter.compiler.processor.RouteProcessor;
+import com.alibaba.android.arouter.core.LogisticsCenter;
+import com.alibaba.android.arouter.launcher.ARouter;
+import com.alibaba.android.arouter.register.core.RegisterCodeGenerator;
+import com.alibaba.android.arouter.register.core.RegisterTransform;
+import com.alibaba.android.arouter.register.utils.ScanSetting;
+import com.alibaba.android.arouter.register.utils.ScanUtil;
+import com.alibaba.android.arouter.utils.DefaultLogger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generate the synthetic app and measure every stage of ARouter at this scale, headless on JVM.
+ * 1. Compile every module with and without RouteProcessor/AutowiredProcessor/InterceptorProcessor.
+ * 2. Count the classes generated by processors.
+ * 3. Scan the module jars and insert register code into LogisticsCenter, same as RegisterTransform.
+ * 4. Run LogisticsCenter.init with the transformed LogisticsCenter, in a fresh class loader every run.
+ * 生成合成应用，测量注解处理、插件transform以及运行时初始化的耗时
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:10
+ */
+public class LargeAppHarness {
+    private static final String LOGISTICS_CENTER = "com/alibaba/android/arouter/core/LogisticsCenter.class";
+    private static final String ROUTER_ENGINE = "com.alibaba.android.arouter.core.RouterEngine";
+
+    private final SyntheticApp app;
+    private final File workDir;
+    private final String classpath = System.getProperty("java.class.path");
+
+    private LargeAppHarness(SyntheticApp app, File workDir) {
+        this.app = app;
+        this.workDir = workDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SyntheticApp app = SyntheticApp.parse(args);
+        File workDir = null != app.workDir ? app.workDir : Files.createTempDirectory("arouter-fixture").toFile();
+
+        System.out.println("Synthetic app: " + app);
+        System.out.println("Work dir: " + workDir.getAbsolutePath());
+        new LargeAppHarness(app, workDir).run();
+    }
+
+    private void run() throws Exception {
+        File inputDir = new File(workDir, "input");
+        List<File> jars = compile(inputDir);
+        jars.add(apiJar(new File(inputDir, "arouter-api.jar")));
+        List<File> transformed = transform(jars, new File(workDir, "transformed"));
+        init(transformed);
+    }
+
+    /**
+     * Compile all modules, package classes of every module into a jar.
+     */
+    private List<File> compile(File inputDir) throws IOException {
+        System.out.println();
+        System.out.println("== Annotation processing ==");
+        System.out.println(String.format(Locale.ENGLISH, "%-10s %8s %14s %14s %10s %12s",
+                "module", "sources", "javac(ms)", "javac+apt(ms)", "generated", "bytes"));
+
+        List<File> jars = new ArrayList<>();
+        Map<String, Long> processorNanos = new LinkedHashMap<>();
+        long generateNanos = 0;
+        long baselineNanos = 0;
+        long processedNanos = 0;
+        int sourceCount = 0;
+        int generatedSources = 0;
+        int generatedClasses = 0;
+        long generatedBytes = 0;
+
+        for (int i = 0; i < app.modules; i++) {
+            String moduleName = SyntheticApp.moduleName(i);
+            File moduleDir = new File(workDir, moduleName);
+
+            long begin = System.nanoTime();
+            List<File> sources = app.generate(i, new File(moduleDir, "src"));
+            generateNanos += System.nanoTime() - begin;
+
+            // Processors can't be initialized twice, create them for every module.
+            // Same order as the services file generated by auto-service, RouteProcessor claims @Autowired too.
+            List<TimedProcessor> processors = Arrays.asList(
+                    new TimedProcessor(new AutowiredProcessor()),
+                    new TimedProcessor(new InterceptorProcessor()),
+                    new TimedProcessor(new RouteProcessor()));
+
+            File baselineDir = new File(moduleDir, "baseline");
+            File classesDir = new File(moduleDir, "classes");
+            File generatedDir = new File(moduleDir, "generated");
+            long baseline = javac(sources, baselineDir, null, moduleName, null);
+            long processed = javac(sources, classesDir, generatedDir, moduleName, processors);
+
+            for (TimedProcessor processor : processors) {
+                Long cost = processorNanos.get(processor.getName());
+                processorNanos.put(processor.getName(), (null == cost ? 0 : cost) + processor.getCostNanos());
+            }
+
+            // The classes not in baseline are generated by processors.
+            Set<String> baselineClasses = new HashSet<>(list(baselineDir));
+            int moduleClasses = 0;
+            long moduleBytes = 0;
+            for (String path : list(classesDir)) {
+                if (!baselineClasses.contains(path)) {
+                    moduleClasses++;
+                    moduleBytes += new File(classesDir, path).length();
+                }
+            }
+
+            baselineNanos += baseline;
+            processedNanos += processed;
+            sourceCount += sources.size();
+            generatedSources += list(generatedDir).size();
+            generatedClasses += moduleClasses;
+            generatedBytes += moduleBytes;
+
+            System.out.println(String.format(Locale.ENGLISH, "%-10s %8d %14d %14d %10d %12d",
+                    moduleName, sources.size(), millis(baseline), millis(processed), moduleClasses, moduleBytes));
+
+            File jar = new File(inputDir, moduleName + ".jar");
+            jar(classesDir, jar);
+            jars.add(jar);
+        }
+
+        System.out.println("generate sources: " + millis(generateNanos) + "ms, " + sourceCount + " files");
+        System.out.println("javac without processors: " + millis(baselineNanos) + "ms");
+        System.out.println("javac with processors: " + millis(processedNanos) + "ms, "
+                + "overhead " + millis(processedNanos - baselineNanos) + "ms");
+        for (Map.Entry<String, Long> entry : processorNanos.entrySet()) {
+            System.out.println("  " + entry.getKey() + ": " + millis(entry.getValue()) + "ms");
+        }
+        System.out.println("generated: " + generatedSources + " sources, " + generatedClasses + " classes, "
+                + generatedBytes + " bytes");
+        System.out.println("(The first modules include the warm up of javac and processors.)");
+        return jars;
+    }
+
+    /**
+     * @return cost of compiling
+     */
+    private long javac(List<File> sources, File classesDir, File generatedDir, String moduleName,
+                       List<TimedProcessor> processors) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (null == compiler) {
+            throw new IllegalStateException("No system java compiler, run with JDK instead of JRE.");
+        }
+
+        mkdirs(classesDir);
+        List<String> options = new ArrayList<>(Arrays.asList(
+                "-classpath", classpath,
+                "-d", classesDir.getAbsolutePath(),
+                "-encoding", "UTF-8",
+                "-nowarn"));
+        if (SourceVersion.latest().compareTo(SourceVersion.RELEASE_8) > 0) {
+            // Same bytecode as android app, ASM5 in arouter-register can't read the nest attributes of Java 11+.
+            options.add("--release");
+            options.add("8");
+        }
+        if (null == processors) {
+            options.add("-proc:none");
+        } else {
+            mkdirs(generatedDir);
+            options.add("-s");
+            options.add(generatedDir.getAbsolutePath());
+            options.add("-AAROUTER_MODULE_NAME=" + moduleName);
+        }
+
+        // Processors print notes of every element, collect them to keep the report clean.
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ENGLISH, StandardCharsets.UTF_8);
+        try {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(sources));
+            if (null != processors) {
+                task.setProcessors(processors);
+            }
+
+            long begin = System.nanoTime();
+            boolean success = task.call();
+            long cost = System.nanoTime() - begin;
+            if (!success) {
+                StringBuilder errors = new StringBuilder();
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                    if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                        errors.append('\n').append(diagnostic.getMessage(Locale.ENGLISH));
+                    }
+                }
+                throw new IllegalStateException("Compile " + moduleName + " failed:" + errors);
+            }
+            return cost;
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    /**
+     * The jar of arouter-api, only LogisticsCenter is needed by transform, others are loaded from classpath.
+     */
+    private File apiJar(File jar) throws IOException {
+        JarOutputStream output = new JarOutputStream(new FileOutputStream(jar));
+        InputStream input = LogisticsCenter.class.getClassLoader().getResourceAsStream(LOGISTICS_CENTER);
+        try {
+            output.putNextEntry(new JarEntry(LOGISTICS_CENTER));
+            copy(input, output);
+            output.closeEntry();
+        } finally {
+            input.close();
+            output.close();
+        }
+        return jar;
+    }
+
+    /**
+     * Same as RegisterTransform.transform, except the jars are given instead of TransformInput.
+     */
+    private List<File> transform(List<File> jars, File outputDir) throws IOException {
+        System.out.println();
+        System.out.println("== Transform ==");
+
+        mkdirs(outputDir);
+        ArrayList<ScanSetting> settings = new ArrayList<>(3);
+        settings.add(new ScanSetting("IRouteRoot"));
+        settings.add(new ScanSetting("IInterceptorGroup"));
+        settings.add(new ScanSetting("IProviderGroup"));
+        RegisterTransform.setRegisterList(settings);
+        RegisterTransform.setFileContainsInitClass(null);
+
+        List<File> outputs = new ArrayList<>();
+        long begin = System.nanoTime();
+        for (File jar : jars) {
+            File dest = new File(outputDir, jar.getName());
+            if (ScanUtil.shouldProcessPreDexJar(jar.getAbsolutePath())) {
+                ScanUtil.scanJar(jar, dest);
+            }
+            Files.copy(jar.toPath(), dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            outputs.add(dest);
+        }
+        long scanned = System.nanoTime();
+
+        if (null == RegisterTransform.getFileContainsInitClass()) {
+            throw new IllegalStateException("LogisticsCenter is not found in jars.");
+        }
+        int registered = 0;
+        for (ScanSetting setting : settings) {
+            registered += setting.getClassList().size();
+            RegisterCodeGenerator.insertInitCodeTo(setting);
+        }
+        long inserted = System.nanoTime();
+
+        System.out.println("scan " + jars.size() + " jars: " + millis(scanned - begin) + "ms");
+        System.out.println("insert " + registered + " register calls: " + millis(inserted - scanned) + "ms");
+        return outputs;
+    }
+
+    /**
+     * Run LogisticsCenter.init in a fresh class loader every run, the transformed LogisticsCenter covers the one in classpath.
+     */
+    private void init(List<File> jars) throws Exception {
+        System.out.println();
+        System.out.println("== LogisticsCenter.init ==");
+
+        List<URL> urls = new ArrayList<>();
+        for (File jar : jars) {
+            if (jar.getName().equals("arouter-api.jar")) {
+                urls.add(0, jar.toURI().toURL());
+            } else {
+                urls.add(jar.toURI().toURL());
+            }
+        }
+        for (String path : classpath.split(File.pathSeparator)) {
+            urls.add(new File(path).toURI().toURL());
+        }
+
+        long first = 0;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < app.initRuns; i++) {
+            URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getSystemClassLoader().getParent());
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+            try {
+                Class<?> center = Class.forName(LogisticsCenter.class.getName(), true, loader);
+                Class<?> context = loader.loadClass("android.content.Context");
+                Method init = center.getMethod("init", context, ThreadPoolExecutor.class);
+
+                // Same as ARouter.init, the logger is assigned before LogisticsCenter.init.
+                loader.loadClass(ARouter.class.getName()).getField("logger")
+                        .set(null, loader.loadClass(DefaultLogger.class.getName()).newInstance());
+
+                long begin = System.nanoTime();
+                init.invoke(null, context.newInstance(), executor);
+                long cost = System.nanoTime() - begin;
+                if (0 == i) {
+                    first = cost;
+                    report(center, loader);
+                }
+                best = Math.min(best, cost);
+            } finally {
+                executor.shutdownNow();
+                loader.close();
+            }
+        }
+
+        System.out.println("init: first " + micros(first) + "us, best " + micros(best) + "us of " + app.initRuns + " runs");
+    }
+
+    private void report(Class<?> center, ClassLoader loader) throws Exception {
+        Object report = center.getMethod("getStartupReport").invoke(null);
+        boolean registerByPlugin = (Boolean) report.getClass().getMethod("isRegisterByPlugin").invoke(report);
+        List<?> classLoads = (List<?>) report.getClass().getMethod("getClassLoads").invoke(report);
+
+        // LogisticsCenter.init loads the router map into the default engine.
+        Object engine = loader.loadClass(ROUTER_ENGINE).getMethod("getDefault").invoke(null);
+        Field warehouseField = engine.getClass().getDeclaredField("warehouse");
+        warehouseField.setAccessible(true);
+        Object warehouse = warehouseField.get(engine);
+        int groups = size(warehouse, "groupsIndex");
+        int providers = size(warehouse, "providersIndex");
+        int interceptors = size(warehouse, "interceptorsIndex");
+        System.out.println("registerByPlugin: " + registerByPlugin + ", " + classLoads.size() + " classes loaded");
+        System.out.println("groups: " + groups + ", providers: " + providers + ", interceptors: " + interceptors);
+
+        if (!registerByPlugin || groups != app.modules * Math.min(app.groups, app.routes) + (app.providers > 0 ? app.modules : 0)
+                || interceptors != app.modules * app.interceptors) {
+            System.out.println("WARNING: router map doesn't match the synthetic app.");
+        }
+    }
+
+    private static int size(Object warehouse, String name) throws Exception {
+        Field field = warehouse.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return ((Map<?, ?>) field.get(warehouse)).size();
+    }
+
+    private static void jar(File classesDir, File jar) throws IOException {
+        mkdirs(jar.getParentFile());
+        JarOutputStream output = new JarOutputStream(new FileOutputStream(jar));
+        try {
+            for (String path : list(classesDir)) {
+                output.putNextEntry(new JarEntry(path));
+                InputStream input = Files.newInputStream(new File(classesDir, path).toPath());
+                try {
+                    copy(input, output);
+                } finally {
+                    input.close();
+                }
+                output.closeEntry();
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * @return relative paths of all files in dir, separated by '/'.
+     */
+    private static List<String> list(File dir) {
+        List<String> paths = new ArrayList<>();
+        list(dir, "", paths);
+        return paths;
+    }
+
+    private static void list(File dir, String prefix, List<String> paths) {
+        File[] files = dir.listFiles();
+        if (null == files) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                list(file, prefix + file.getName() + "/", paths);
+            } else {
+                paths.add(prefix + file.getName());
+            }
+        }
+    }
+
+    private static void copy(InputStream input, JarOutputStream output) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+    }
+
+    private static void mkdirs(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Can't create " + dir);
+        }
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1000000;
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1000;
+    }
+}
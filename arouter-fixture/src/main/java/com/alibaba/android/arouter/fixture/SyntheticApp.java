@@ -0,0 +1,201 @@
+package com.alibaba.android.arouter.fixture;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shape of synthetic app, N modules × M annotated classes, and the generator of module sources.
+ * Every module has its own groups, like 'm3g0', because ARouter doesn't allow a group in different modules.
+ * 合成的大型应用，按模块生成路由、服务、拦截器以及@Autowired字段
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:10
+ */
+public class SyntheticApp {
+    private static final String PACKAGE_PREFIX = "com.alibaba.android.arouter.synthetic.module";
+    private static final String[] FIELD_TYPES = {"int", "String", "long", "boolean", "double"};
+
+    int modules = 10;
+    int routes = 100;           // Per module, every 4th route is fragment.
+    int groups = 10;            // Per module
+    int providers = 10;         // Per module
+    int interceptors = 2;       // Per module
+    int fields = 5;             // @Autowired fields per route
+    int initRuns = 5;
+    File workDir;
+
+    /**
+     * Parse args like '--modules=50 --routes=200'.
+     */
+    static SyntheticApp parse(String[] args) {
+        SyntheticApp app = new SyntheticApp();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Unknown arg [" + arg + "], should be like --modules=10");
+            }
+
+            String key = arg.substring(2, split);
+            String value = arg.substring(split + 1);
+            switch (key) {
+                case "modules":
+                    app.modules = positive(key, value);
+                    break;
+                case "routes":
+                    app.routes = positive(key, value);
+                    break;
+                case "groups":
+                    app.groups = positive(key, value);
+                    break;
+                case "providers":
+                    app.providers = Integer.parseInt(value);
+                    break;
+                case "interceptors":
+                    app.interceptors = Integer.parseInt(value);
+                    break;
+                case "fields":
+                    app.fields = Integer.parseInt(value);
+                    break;
+                case "initRuns":
+                    app.initRuns = positive(key, value);
+                    break;
+                case "workDir":
+                    app.workDir = new File(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown arg [" + arg + "]");
+            }
+        }
+        return app;
+    }
+
+    private static int positive(String key, String value) {
+        int number = Integer.parseInt(value);
+        if (number <= 0) {
+            throw new IllegalArgumentException(key + " should be positive, but it's " + value);
+        }
+        return number;
+    }
+
+    static String moduleName(int module) {
+        return "module" + module;
+    }
+
+    /**
+     * Write sources of module into dir.
+     *
+     * @return source files
+     */
+    List<File> generate(int module, File dir) throws IOException {
+        String packageName = PACKAGE_PREFIX + module;
+        File packageDir = new File(dir, packageName.replace('.', File.separatorChar));
+        if (!packageDir.isDirectory() && !packageDir.mkdirs()) {
+            throw new IOException("Can't create " + packageDir);
+        }
+
+        List<File> sources = new ArrayList<>();
+        for (int i = 0; i < providers; i++) {
+            sources.add(write(packageDir, "Service" + i, service(packageName, i)));
+            sources.add(write(packageDir, "Service" + i + "Impl", serviceImpl(packageName, module, i)));
+        }
+        for (int i = 0; i < interceptors; i++) {
+            sources.add(write(packageDir, "Interceptor" + i, interceptor(packageName, module, i)));
+        }
+        for (int i = 0; i < routes; i++) {
+            sources.add(write(packageDir, "Page" + i, page(packageName, module, i)));
+        }
+        return sources;
+    }
+
+    private String service(String packageName, int index) {
+        return "package " + packageName + ";\n\n" +
+                "import com.alibaba.android.arouter.facade.template.IProvider;\n\n" +
+                "public interface Service" + index + " extends IProvider {\n" +
+                "    String call(String arg);\n" +
+                "}\n";
+    }
+
+    private String serviceImpl(String packageName, int module, int index) {
+        return "package " + packageName + ";\n\n" +
+                "import android.content.Context;\n\n" +
+                "import com.alibaba.android.arouter.facade.annotation.Route;\n\n" +
+                "@Route(path = \"/m" + module + "s/service" + index + "\")\n" +
+                "public class Service" + index + "Impl implements Service" + index + " {\n" +
+                "    @Override\n" +
+                "    public void init(Context context) {\n" +
+                "    }\n\n" +
+                "    @Override\n" +
+                "    public String call(String arg) {\n" +
+                "        return arg;\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String interceptor(String packageName, int module, int index) {
+        // Priority of interceptors should be unique in whole app.
+        return "package " + packageName + ";\n\n" +
+                "import android.content.Context;\n\n" +
+                "import com.alibaba.android.arouter.facade.Postcard;\n" +
+                "import com.alibaba.android.arouter.facade.annotation.Interceptor;\n" +
+                "import com.alibaba.android.arouter.facade.callback.InterceptorCallback;\n" +
+                "import com.alibaba.android.arouter.facade.template.IInterceptor;\n\n" +
+                "@Interceptor(priority = " + (module * 1000 + index) + ", name = \"m" + module + "i" + index + "\")\n" +
+                "public class Interceptor" + index + " implements IInterceptor {\n" +
+                "    @Override\n" +
+                "    public void process(Postcard postcard, InterceptorCallback callback) {\n" +
+                "        callback.onContinue(postcard);\n" +
+                "    }\n\n" +
+                "    @Override\n" +
+                "    public void init(Context context) {\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    private String page(String packageName, int module, int index) {
+        String superClass = index % 4 == 3 ? "android.support.v4.app.Fragment" : "android.app.Activity";
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n")
+                .append("import com.alibaba.android.arouter.facade.annotation.Autowired;\n")
+                .append("import com.alibaba.android.arouter.facade.annotation.Route;\n\n")
+                .append("@Route(path = \"/m").append(module).append('g').append(index % groups)
+                .append("/page").append(index).append("\", extras = ").append(index).append(")\n")
+                .append("public class Page").append(index).append(" extends ").append(superClass).append(" {\n");
+        for (int i = 0; i < fields; i++) {
+            sb.append("    @Autowired");
+            if (i % 2 == 1) {
+                sb.append("(name = \"f").append(i).append("\")");
+            }
+            sb.append("\n    ").append(FIELD_TYPES[i % FIELD_TYPES.length]).append(" field").append(i).append(";\n");
+        }
+        if (providers > 0) {
+            sb.append("    @Autowired\n    Service").append(index % providers).append(" service;\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static File write(File packageDir, String className, String source) throws IOException {
+        File file = new File(packageDir, className + ".java");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
+        try {
+            writer.write(source);
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    @Override
+    public String toString() {
+        return modules + " modules x (" + routes + " routes in " + groups + " groups, "
+                + providers + " providers, " + interceptors + " interceptors, "
+                + fields + " @Autowired fields per route)";
+    }
+}
@@ -0,0 +1,74 @@
+package com.alibaba.android.arouter.fixture;
+
+import java.util.Set;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Wrap the processor and accumulate the cost of init and process, in all rounds of all modules.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 22:10
+ */
+class TimedProcessor implements Processor {
+    private final Processor delegate;
+    private long costNanos;
+
+    TimedProcessor(Processor delegate) {
+        this.delegate = delegate;
+    }
+
+    String getName() {
+        return delegate.getClass().getSimpleName();
+    }
+
+    long getCostNanos() {
+        return costNanos;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return delegate.getSupportedOptions();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return delegate.getSupportedAnnotationTypes();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return delegate.getSupportedSourceVersion();
+    }
+
+    @Override
+    public void init(ProcessingEnvironment processingEnv) {
+        long begin = System.nanoTime();
+        delegate.init(processingEnv);
+        costNanos += System.nanoTime() - begin;
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        long begin = System.nanoTime();
+        try {
+            return delegate.process(annotations, roundEnv);
+        } finally {
+            costNanos += System.nanoTime() - begin;
+        }
+    }
+
+    @Override
+    public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+        return delegate.getCompletions(element, annotation, member, userText);
+    }
+}
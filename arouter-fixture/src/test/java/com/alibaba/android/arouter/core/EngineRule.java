@@ -0,0 +1,66 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+
+import org.junit.rules.ExternalResource;
+
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Isolated engines for a test, they share one executor which is shut down after the test.
+ * 测试用的独立路由实例，测试结束后关闭线程池
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-20 00:10
+ */
+public class EngineRule extends ExternalResource {
+    private ThreadPoolExecutor executor;
+    private RouterEngine engine;
+
+    @Override
+    protected void before() {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>());
+        engine = new RouterEngine(executor);
+    }
+
+    @Override
+    protected void after() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * The engine of this test.
+     */
+    public RouterEngine get() {
+        return engine;
+    }
+
+    /**
+     * Another engine, eg. to compare with the one of test.
+     */
+    public RouterEngine newEngine() {
+        return new RouterEngine(executor);
+    }
+
+    /**
+     * Meta of activity as arouter-compiler generates, the path and group are in lower case, while the key of atlas isn't.
+     *
+     * @param destination class of activity
+     * @param path        path as declared, the group is the first part of it.
+     * @param paramsType  nullable, name of param -> ordinal of TypeKind
+     */
+    public static RouteMeta generated(Class<?> destination, String path, Map<String, Integer> paramsType) {
+        String lowerCase = path.toLowerCase();
+        String group = lowerCase.substring(1, lowerCase.indexOf('/', 1));
+        return RouteMeta.build(RouteType.ACTIVITY, destination, lowerCase, group, paramsType, -1, Integer.MIN_VALUE);
+    }
+
+    public static RouteMeta generated(Class<?> destination, String path) {
+        return generated(destination, path, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.alibaba.android.arouter.core;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.facade.template.IRouteRoot;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.alibaba.android.arouter.core.EngineRule.generated;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Lookups of loaded routes with mixed case paths, the index and the scan give the same results.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:30
+ */
+public class RouteIndexTest {
+    private static final RouteMeta ACCOUNT = generated(Object.class, "/Settings/Account");
+    private static final RouteMeta PRIVACY = generated(Object.class, "/Settings/Account/Privacy");
+    private static final RouteMeta ABOUT = generated(Object.class, "/Settings/About");
+
+    @Rule
+    public EngineRule engines = new EngineRule();
+    private RouterEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = engines.get();
+        engine.addRouteRoot(new IRouteRoot() {
+            @Override
+            public void loadInto(Map<String, Class<? extends IRouteGroup>> routes) {
+                routes.put("Settings", SettingsGroup.class);
+            }
+        });
+        engine.resolve(new Postcard("/Settings/Account", "Settings"));
+    }
+
+    @Test
+    public void scan() {
+        check();
+    }
+
+    @Test
+    public void index() {
+        engine.openRouteIndex();
+        check();
+    }
+
+    private void check() {
+        List<RouteMeta> routes = engine.findRoutes("/Settings");
+        assertEquals(Arrays.asList(ABOUT, ACCOUNT, PRIVACY), routes);
+        assertEquals(Arrays.asList(ACCOUNT, PRIVACY), engine.findRoutes("/Settings/Account"));
+        assertEquals(0, engine.findRoutes("/settings").size());
+
+        assertSame(PRIVACY, engine.findNearestRoute("/Settings/Account/Privacy/Ads"));
+        assertSame(ACCOUNT, engine.findNearestRoute("/Settings/Account/Devices"));
+    }
+
+    public static class SettingsGroup implements IRouteGroup {
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/Settings/Account", ACCOUNT);
+            atlas.put("/Settings/Account/Privacy", PRIVACY);
+            atlas.put("/Settings/About", ABOUT);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.alibaba.android.arouter.core;
+
+import android.app.Activity;
+import android.net.Uri;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.facade.template.IRouteRoot;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static com.alibaba.android.arouter.core.EngineRule.generated;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Bounded memory of routes, with the mixed case names of group and paths, and lower case metas as arouter-compiler generates.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:55
+ */
+public class RouteMemoryTest {
+    @Rule
+    public EngineRule engines = new EngineRule();
+    private RouterEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = engines.get();
+        engine.addRouteRoot(new Root());
+    }
+
+    @After
+    public void tearDown() {
+        UriCache.open(0);
+        RouterEngine.getDefault().clear();
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        resolve("/Shop/Home", "Shop");
+        resolve("/Cart/Home", "Cart");
+        engine.setRouteMemoryLimit(engine.getRouteMemoryStats().getEstimatedBytes());
+
+        resolve("/Shop/Home", "Shop");      // Cart is the least recently used one now.
+        resolve("/User/Home", "User");
+
+        assertEquals(1, engine.getRouteMemoryStats().getEvictions());
+        assertTrue(engine.warehouse.routes.containsKey("/Shop/Home"));
+        assertFalse(engine.warehouse.routes.containsKey("/Cart/Home"));
+        assertTrue(engine.warehouse.groupsIndex.containsKey("Cart"));
+
+        resolve("/Cart/Home", "Cart");
+        assertEquals(1, engine.getRouteMemoryStats().getReloads());
+    }
+
+    @Test
+    public void templatedRouteIsTouched() {
+        resolve("/Shop/Item/1", "Shop");
+        resolve("/Cart/Home", "Cart");
+        engine.setRouteMemoryLimit(engine.getRouteMemoryStats().getEstimatedBytes());
+
+        resolve("/Shop/Item/2", "Shop");
+        resolve("/User/Home", "User");
+
+        assertTrue(engine.warehouse.groupsIndex.containsKey("Cart"));
+        assertFalse(engine.warehouse.groupsIndex.containsKey("Shop"));
+    }
+
+    @Test
+    public void indexIsReleased() {
+        engine.openRouteIndex();
+        resolve("/Cart/Home", "Cart");
+        assertEquals(2, engine.findRoutes("/Cart").size());
+
+        resolve("/Shop/Home", "Shop");
+        engine.setRouteMemoryLimit(1);
+
+        assertEquals(0, engine.findRoutes("/Cart").size());
+        assertEquals(0, engine.getRouteMemoryStats().getLoadedRoutes());
+    }
+
+    @Test
+    public void uriCacheIsInvalidated() {
+        RouterEngine engine = RouterEngine.getDefault();
+        engine.addRouteRoot(new Root());
+        UriCache.open(16);
+
+        String uri = "arouter://m.aliyun.com/Cart/Home";
+        assertFalse(engine.resolve(new Postcard("/Cart/Home", "Cart", Uri.parse(uri), null)).isMissing());
+        assertNotNull(UriCache.get(uri));
+
+        engine.setRouteMemoryLimit(1);
+        assertNull(UriCache.get(uri));
+    }
+
+    @Test
+    public void coveredRoutesAreCountedOnce() throws Exception {
+        resolve("/Shop/Home", "Shop");
+        RouteMemoryStats loaded = engine.getRouteMemoryStats();
+
+        engine.addRouteGroupDynamic("Shop", new ShopGroup());
+        assertEquals(loaded.getEstimatedBytes(), engine.getRouteMemoryStats().getEstimatedBytes());
+        assertEquals(loaded.getLoadedRoutes(), engine.getRouteMemoryStats().getLoadedRoutes());
+    }
+
+    @Test
+    public void coveredRoutesAreReleasedFromFormerGroup() throws Exception {
+        resolve("/Shop/Home", "Shop");
+        long shop = engine.getRouteMemoryStats().getEstimatedBytes();
+        engine.addRouteGroupDynamic("Promo", new PromoGroup());
+
+        RouterEngine promoOnly = engines.newEngine();
+        promoOnly.addRouteGroupDynamic("Promo", new PromoGroup());
+        long promo = promoOnly.getRouteMemoryStats().getEstimatedBytes();
+        assertEquals(shop - RouteMemory.estimate(generated(Activity.class, "/Shop/Home")) + promo, engine.getRouteMemoryStats().getEstimatedBytes());
+        assertEquals(2, engine.getRouteMemoryStats().getLoadedRoutes());
+
+        engine.setRouteMemoryLimit(1);     // Evict all but the pinned one.
+        assertEquals(promo, engine.getRouteMemoryStats().getEstimatedBytes());
+        assertTrue(engine.warehouse.routes.containsKey("/Shop/Home"));
+    }
+
+    private void resolve(String path, String group) {
+        RouteResolution resolution = engine.resolve(new Postcard(path, group));
+        assertFalse(resolution.getMessage(), resolution.isMissing());
+    }
+
+    public static class Root implements IRouteRoot {
+        @Override
+        public void loadInto(Map<String, Class<? extends IRouteGroup>> routes) {
+            routes.put("Shop", ShopGroup.class);
+            routes.put("Cart", CartGroup.class);
+            routes.put("User", UserGroup.class);
+        }
+    }
+
+    public static class ShopGroup implements IRouteGroup {
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/Shop/Home", generated(Activity.class, "/Shop/Home"));
+            atlas.put("/Shop/Item/{id}", generated(Activity.class, "/Shop/Item/{id}"));
+        }
+    }
+
+    public static class CartGroup implements IRouteGroup {
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/Cart/Home", generated(Activity.class, "/Cart/Home"));
+            atlas.put("/Cart/Edit/{id}", generated(Activity.class, "/Cart/Edit/{id}"));
+        }
+    }
+
+    /**
+     * Covers the home of shop.
+     */
+    public static class PromoGroup implements IRouteGroup {
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/Shop/Home", generated(Activity.class, "/Shop/Home"));
+        }
+    }
+
+    public static class UserGroup implements IRouteGroup {
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/User/Home", generated(Activity.class, "/User/Home"));
+            atlas.put("/User/Page/{id}", generated(Activity.class, "/User/Page/{id}"));
+        }
+    }
+}
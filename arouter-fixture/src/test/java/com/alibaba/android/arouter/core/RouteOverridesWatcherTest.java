@@ -0,0 +1,91 @@
+package com.alibaba.android.arouter.core;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The override file which failed to read is read again, even if its size and modified time are not changed.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:50
+ */
+public class RouteOverridesWatcherTest {
+    private static final long INTERVAL = 10;
+    private static final long TIMEOUT = 2000;
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+    @Rule
+    public EngineRule engines = new EngineRule();
+
+    private RouterEngine engine;
+    private RouteOverridesWatcher watcher;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        engine = engines.get();
+        file = temp.newFile("overrides");
+        watcher = new RouteOverridesWatcher(file, INTERVAL, engine);
+    }
+
+    @After
+    public void tearDown() {
+        watcher.stop();
+    }
+
+    @Test
+    public void retryAfterFailedRead() throws Exception {
+        byte[] overrides = bytes(RouteOverrides.newBuilder().version(1).disable("/test/activity").build());
+        long modified = file.lastModified();
+
+        // Same size and time as the valid one, but it's not an override file.
+        write(new byte[overrides.length], modified);
+        watcher.start();
+        awaitChecks(1);
+        assertEquals(0, engine.getRouteOverrides().size());
+
+        write(overrides, modified);
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (engine.getRouteOverrides().size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(INTERVAL);
+        }
+        assertTrue(engine.getRouteOverrides().get("/test/activity").isDisabled());
+    }
+
+    private void awaitChecks(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (watcher.getCheckCount() < count) {
+            assertTrue("No check in " + TIMEOUT + "ms", System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private void write(byte[] content, long modified) throws IOException {
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(content);
+        } finally {
+            output.close();
+        }
+        assertTrue(file.setLastModified(modified));
+    }
+
+    private static byte[] bytes(RouteOverrides overrides) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        overrides.writeTo(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+package com.alibaba.android.arouter.core;
+
+import android.app.Activity;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.enums.TypeKind;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.facade.template.IRouteRoot;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.alibaba.android.arouter.core.EngineRule.generated;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Templated routes with the lower case path and group of meta, as arouter-compiler generates.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:20
+ */
+public class TemplateRouteTest {
+    @Rule
+    public EngineRule engines = new EngineRule();
+    private RouterEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = engines.get();
+        engine.addRouteRoot(new IRouteRoot() {
+            @Override
+            public void loadInto(Map<String, Class<? extends IRouteGroup>> routes) {
+                routes.put("Shop", ShopGroup.class);
+            }
+        });
+    }
+
+    @Test
+    public void variableIsSetByDeclaredNameAndType() {
+        Postcard postcard = new Postcard("/Shop/product/42/Detail", "Shop");
+        RouteResolution resolution = engine.resolve(postcard);
+
+        assertFalse(resolution.getMessage(), resolution.isMissing());
+        assertSame(Activity.class, postcard.getDestination());
+        assertEquals(42, postcard.getExtras().getInt("productId"));
+    }
+
+    @Test
+    public void groupIsMatchedAfterLoaded() {
+        assertFalse(engine.resolve(new Postcard("/Shop/product/1/Detail", "Shop")).isMissing());
+
+        // The group has been loaded, the matcher is found by the name of group in postcard.
+        Postcard postcard = new Postcard("/Shop/product/7/Detail", "Shop");
+        assertFalse(engine.resolve(postcard).isMissing());
+        assertEquals(7, postcard.getExtras().getInt("productId"));
+    }
+
+    @Test
+    public void literalWordKeepsItsCase() {
+        assertTrue(engine.resolve(new Postcard("/Shop/product/42/detail", "Shop")).isMissing());
+    }
+
+    @Test
+    public void groupOfSnapshot() {
+        assertTrue(engine.publishRoutes(engine.getRouteSnapshot().newBuilder().addGroup(new ShopGroup()).build()));
+
+        // The group in snapshot only, nothing loaded from groupsIndex.
+        Postcard postcard = new Postcard("/Shop/product/9/Detail", "Promotion");
+        assertFalse(engine.resolve(postcard).isMissing());
+        assertSame(Activity.class, postcard.getDestination());
+        assertEquals(9, postcard.getExtras().getInt("productId"));
+    }
+
+    public static class ShopGroup implements IRouteGroup {
+        static final RouteMeta DETAIL = generated(Activity.class, "/Shop/product/{productId}/Detail", params("productId", TypeKind.INT));
+
+        @Override
+        public void loadInto(Map<String, RouteMeta> atlas) {
+            atlas.put("/Shop/product/{productId}/Detail", DETAIL);
+        }
+
+        private static Map<String, Integer> params(String name, TypeKind type) {
+            Map<String, Integer> params = new HashMap<>();
+            params.put(name, type.ordinal());
+            return params;
+        }
+    }
+}
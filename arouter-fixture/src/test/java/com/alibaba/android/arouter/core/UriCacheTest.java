@@ -0,0 +1,106 @@
+package com.alibaba.android.arouter.core;
+
+import android.app.Activity;
+import android.net.Uri;
+import android.os.Bundle;
+
+import com.alibaba.android.arouter.facade.Postcard;
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.launcher.ARouter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The result computed with the routes before invalidation is never cached after it.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:50
+ */
+public class UriCacheTest {
+    private static final String URI = "arouter://m.aliyun.com/cache/detail?id=1";
+
+    private final RouteMeta meta = RouteMeta.build(RouteType.ACTIVITY, Activity.class, "/cache/detail", "cache", -1, Integer.MIN_VALUE);
+
+    @Before
+    public void setUp() {
+        UriCache.open(16);
+    }
+
+    @After
+    public void tearDown() {
+        UriCache.open(0);
+    }
+
+    @Test
+    public void putInSameGeneration() {
+        UriCache.putResolved(URI, meta, new Bundle(), UriCache.generation());
+        assertSame(meta, UriCache.get(URI).getMeta());
+    }
+
+    @Test
+    public void dropStaleRoute() {
+        int generation = UriCache.generation();
+        UriCache.invalidate();      // Routes published while resolving.
+        UriCache.putResolved(URI, meta, new Bundle(), generation);
+
+        assertNull(UriCache.get(URI));
+    }
+
+    @Test
+    public void dropStaleTarget() {
+        int generation = UriCache.generation();
+        RouterEngine.getDefault().setRouteOverrides(null);
+        UriCache.putTarget(URI, Uri.parse(URI), "cache", generation);
+
+        assertNull(UriCache.get(URI));
+    }
+
+    @Test
+    public void dropStaleRouteOfSnapshot() {
+        RouterEngine engine = RouterEngine.getDefault();
+        RouteSnapshot.Builder builder = engine.getRouteSnapshot().newBuilder().add(meta);
+        Postcard postcard = new Postcard("/cache/detail", "cache", Uri.parse(URI), null);
+        try {
+            assertTrue(engine.publishRoutes(builder.build()));
+            assertFalse(engine.resolve(postcard).isMissing());
+            assertSame(meta, UriCache.get(URI).getMeta());
+
+            engine.rollbackRoutes();
+            assertNull(UriCache.get(URI));
+        } finally {
+            engine.clear();
+        }
+    }
+
+    @Test
+    public void degradeTargetIsNotCached() {
+        RouterEngine engine = RouterEngine.getDefault();
+        String missing = "arouter://m.aliyun.com/cache/missing";
+        try {
+            assertTrue(engine.publishRoutes(engine.getRouteSnapshot().newBuilder().add(meta).build()));
+
+            // Degraded as _ARouter.navigation does, the postcard keeps the original uri.
+            Postcard postcard = new Postcard("/cache/missing", "cache", Uri.parse(missing), null);
+            assertTrue(engine.resolve(postcard).isMissing());
+            postcard.withString(ARouter.DEGRADE_FROM, postcard.getPath());
+            postcard.setPath("/cache/detail");
+            postcard.setGroup("cache");
+            assertFalse(engine.resolve(postcard).isMissing());
+            assertNull(UriCache.get(missing));
+
+            // Same uri is still missing, it will be degraded again.
+            assertTrue(engine.resolve(new Postcard("/cache/missing", "cache", Uri.parse(missing), null)).isMissing());
+        } finally {
+            engine.clear();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.alibaba.android.arouter.fixture;
+
+import com.alibaba.android.arouter.compiler.processor.AutowiredProcessor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Run AutowiredProcessor over the activity with many fields in process, and check the generated syringe.
+ * 在进程内运行AutowiredProcessor，检查生成的注入代码
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:10
+ */
+public class AutowiredProcessorTest {
+    private static final String ACTIVITY = "package test;\n"
+            + "\n"
+            + "import android.app.Activity;\n"
+            + "import com.alibaba.android.arouter.facade.annotation.Autowired;\n"
+            + "\n"
+            + "public class MultiFieldActivity extends Activity {\n"
+            + "    @Autowired String name;\n"
+            + "    @Autowired String title;\n"
+            + "    @Autowired(name = \"user_id\") long userId;\n"
+            + "    @Autowired int age = 1;\n"
+            + "    @Autowired boolean vip;\n"
+            + "    @Autowired double score;\n"
+            + "    @Autowired float ratio;\n"
+            + "    @Autowired short level;\n"
+            + "    @Autowired char grade;\n"
+            + "    @Autowired byte flags;\n"
+            + "    @Autowired java.util.Date since;\n"
+            + "}\n";
+
+    private static final String LAZY_ACTIVITY = "package test;\n"
+            + "\n"
+            + "import android.app.Activity;\n"
+            + "import com.alibaba.android.arouter.facade.LazyObject;\n"
+            + "import com.alibaba.android.arouter.facade.annotation.Autowired;\n"
+            + "\n"
+            + "public class LazyFieldActivity extends Activity {\n"
+            + "    @Autowired(name = \"order\", lazy = true, required = true) LazyObject<java.util.Date> date;\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void activityReadsExtrasOnce() throws IOException {
+        String syringe = process("MultiFieldActivity", ACTIVITY);
+
+        assertEquals("getExtras() should be called once in:\n" + syringe, 1, count(syringe, "getExtras()"));
+        assertEquals(1, count(syringe, "getIntent()"));
+        assertTrue(syringe.contains("extras.getString(\"name\", substitute.name)"));
+        assertTrue(syringe.contains("extras.getLong(\"user_id\", substitute.userId)"));
+        assertTrue(syringe.contains("extras.getInt(\"age\", substitute.age)"));
+    }
+
+    @Test
+    public void lazyRequiredChecksExtras() throws IOException {
+        String syringe = process("LazyFieldActivity", LAZY_ACTIVITY);
+
+        // LazyObject is always assigned, so the param itself should be checked.
+        assertTrue(syringe, syringe.contains("if (null == extras.get(\"order\"))"));
+        assertFalse(syringe, syringe.contains("null == substitute.date"));
+    }
+
+    /**
+     * @return source of the syringe generated for the class
+     */
+    private String process(String className, String source) throws IOException {
+        File sourceFile = new File(temp.newFolder("src"), className + ".java");
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        File classesDir = temp.newFolder("classes");
+        File generatedDir = temp.newFolder("generated");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("No system java compiler, run with JDK instead of JRE.", compiler);
+
+        List<String> options = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classesDir.getAbsolutePath(),
+                "-s", generatedDir.getAbsolutePath(),
+                "-encoding", "UTF-8",
+                "-nowarn",
+                "-AAROUTER_MODULE_NAME=test"));
+        if (SourceVersion.latest().compareTo(SourceVersion.RELEASE_8) > 0) {
+            options.add("--release");
+            options.add("8");
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ENGLISH, StandardCharsets.UTF_8);
+        try {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(sourceFile)));
+            task.setProcessors(Collections.singletonList(new AutowiredProcessor()));
+            if (!task.call()) {
+                StringBuilder errors = new StringBuilder();
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                    if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                        errors.append('\n').append(diagnostic.getMessage(Locale.ENGLISH));
+                    }
+                }
+                throw new AssertionError("Compile " + className + " failed:" + errors);
+            }
+        } finally {
+            fileManager.close();
+        }
+
+        File syringe = new File(generatedDir, "test/" + className + "$$ARouter$$Autowired.java");
+        assertTrue("Syringe of " + className + " isn't generated.", syringe.isFile());
+        return new String(Files.readAllBytes(syringe.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static int count(String text, String word) {
+        int count = 0;
+        for (int index = text.indexOf(word); index >= 0; index = text.indexOf(word, index + word.length())) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,136 @@
+package com.alibaba.android.arouter.launcher;
+
+import android.app.Application;
+import android.app.Fragment;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.net.Uri;
+
+import com.alibaba.android.arouter.core.HandoffStore;
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.platform.JvmPlatform;
+import com.alibaba.android.arouter.platform.KeyValueStore;
+import com.alibaba.android.arouter.routes.ARouter$$Root$$jvm;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.alibaba.android.arouter.utils.Consts.AROUTER_SP_CACHE_KEY;
+import static com.alibaba.android.arouter.utils.Consts.AROUTER_SP_KEY_MAP;
+import static com.alibaba.android.arouter.utils.Consts.LAST_VERSION_CODE;
+import static com.alibaba.android.arouter.utils.Consts.LAST_VERSION_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Init, build and navigation of ARouter on plain JVM with JvmPlatform.
+ * The router map is loaded from the store of platform, as the app which isn't updated since last launch.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:40
+ */
+public class ARouterJvmTest {
+    private static final String VERSION_NAME = "1.0.0";
+    private static final int VERSION_CODE = 100;
+
+    @BeforeClass
+    public static void init() {
+        JvmPlatform platform = new JvmPlatform();
+        KeyValueStore store = platform.getKeyValueStore(AROUTER_SP_CACHE_KEY);
+        store.putString(LAST_VERSION_NAME, VERSION_NAME);
+        store.putInt(LAST_VERSION_CODE, VERSION_CODE);
+        store.putStringSet(AROUTER_SP_KEY_MAP, Collections.singleton(ARouter$$Root$$jvm.class.getName()));
+
+        ARouter.setPlatform(platform);
+        ARouter.init(new JvmApplication());
+    }
+
+    @Test
+    public void navigationByPath() {
+        Object fragment = ARouter.getInstance().build("/jvm/detail")
+                .withLong("id", 42)
+                .navigation();
+
+        assertTrue(fragment instanceof DetailFragment);
+        assertEquals(42, ((DetailFragment) fragment).getArguments().getLong("id"));
+    }
+
+    @Test
+    public void navigationByUri() {
+        Object fragment = ARouter.getInstance().build(Uri.parse("arouter://m.aliyun.com/jvm/detail?id=7&name=%E4%BD%A0%E5%A5%BD"))
+                .navigation();
+
+        assertTrue(fragment instanceof DetailFragment);
+        assertEquals(7, ((DetailFragment) fragment).getArguments().getLong("id"));
+        assertEquals("你好", ((DetailFragment) fragment).getArguments().getString("name"));
+    }
+
+    @Test
+    public void dynamicRouteCoversBoundMeta() {
+        // Same as the META compiled into generated navigator.
+        RouteMeta navigatorMeta = RouteMeta.build(RouteType.FRAGMENT, DetailFragment.class, "/dynamic/page", "dynamic", -1, Integer.MIN_VALUE);
+        assertTrue(ARouter.getInstance().build(navigatorMeta).navigation() instanceof DetailFragment);
+
+        assertTrue(ARouter.getInstance().addRouteGroup(new IRouteGroup() {
+            @Override
+            public void loadInto(Map<String, RouteMeta> atlas) {
+                atlas.put("/dynamic/page", RouteMeta.build(RouteType.FRAGMENT, DynamicFragment.class, "/dynamic/page", "dynamic", -1, Integer.MIN_VALUE));
+            }
+        }));
+        assertTrue(ARouter.getInstance().build(navigatorMeta).navigation() instanceof DynamicFragment);
+    }
+
+    @Test
+    public void largeObject() {
+        Object large = new Object();
+        Object fragment = ARouter.getInstance().build("/jvm/detail")
+                .withLargeObject("large", large)
+                .navigation();
+
+        Object token = ((DetailFragment) fragment).getArguments().getSerializable("large");
+        assertTrue(HandoffStore.isToken(token));
+        assertSame(large, HandoffStore.acquire((HandoffStore.Token) token, fragment));
+    }
+
+    @Test
+    public void lost() {
+        assertNull(ARouter.getInstance().build("/jvm/none").navigation());
+    }
+
+    public static class DetailFragment extends Fragment {
+    }
+
+    public static class DynamicFragment extends Fragment {
+    }
+
+    /**
+     * Same version as the one saved in store, so the router map isn't scanned again.
+     */
+    private static class JvmApplication extends Application {
+        @Override
+        public String getPackageName() {
+            return "com.alibaba.android.arouter.jvm";
+        }
+
+        @Override
+        public PackageManager getPackageManager() {
+            return new PackageManager() {
+                @Override
+                public PackageInfo getPackageInfo(String packageName, int flags) {
+                    PackageInfo info = new PackageInfo();
+                    info.versionName = VERSION_NAME;
+                    info.versionCode = VERSION_CODE;
+                    return info;
+                }
+            };
+        }
+    }
+}
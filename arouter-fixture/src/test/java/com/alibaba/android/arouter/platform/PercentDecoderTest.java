@@ -0,0 +1,39 @@
+package com.alibaba.android.arouter.platform;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Decoding of JvmPlatform and the default uri parser, same results as android.net.Uri.decode.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:40
+ */
+public class PercentDecoderTest {
+    private final UriParser parser = new PercentDecoder();
+
+    @Test
+    public void plain() {
+        String plain = "a+b c";
+        assertSame(plain, parser.decode(plain));
+    }
+
+    @Test
+    public void utf8() {
+        assertEquals("你好 world", parser.decode("%E4%BD%A0%E5%A5%BD%20world"));
+        assertEquals("a/b", parser.decode("a%2fb"));
+    }
+
+    @Test
+    public void invalidEscape() {
+        assertEquals("\ufffdzz", parser.decode("%zzz"));
+        assertEquals("\ufffd", parser.decode("%4z"));
+        assertEquals("\ufffd%41", parser.decode("%4z%2541"));
+        assertEquals("a\ufffd", parser.decode("a%"));
+        assertEquals("a\ufffd", parser.decode("a%4"));
+        assertEquals("\ufffd-\ufffd", parser.decode("%E4-%E4"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.alibaba.android.arouter.routes;
+
+import com.alibaba.android.arouter.facade.enums.RouteType;
+import com.alibaba.android.arouter.facade.model.RouteMeta;
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.launcher.ARouterJvmTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Group "jvm", as arouter-compiler generates.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:40
+ */
+public class ARouter$$Group$$jvm implements IRouteGroup {
+    @Override
+    public void loadInto(Map<String, RouteMeta> atlas) {
+        atlas.put("/jvm/detail", RouteMeta.build(RouteType.FRAGMENT, ARouterJvmTest.DetailFragment.class, "/jvm/detail", "jvm", new HashMap<String, Integer>() {{
+            put("id", 4);
+            put("name", 8);
+        }}, -1, -2147483648));
+    }
+}
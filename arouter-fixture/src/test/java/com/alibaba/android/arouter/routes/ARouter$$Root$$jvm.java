@@ -0,0 +1,20 @@
+package com.alibaba.android.arouter.routes;
+
+import com.alibaba.android.arouter.facade.template.IRouteGroup;
+import com.alibaba.android.arouter.facade.template.IRouteRoot;
+
+import java.util.Map;
+
+/**
+ * Root of the module "jvm", as arouter-compiler generates, it is loaded from the router map cached in store.
+ *
+ * @author zhilong <a href="mailto:zhilong.lzl@alibaba-inc.com">Contact me.</a>
+ * @version 1.0
+ * @since 2026-10-19 23:40
+ */
+public class ARouter$$Root$$jvm implements IRouteRoot {
+    @Override
+    public void loadInto(Map<String, Class<? extends IRouteGroup>> routes) {
+        routes.put("jvm", ARouter$$Group$$jvm.class);
+    }
+}